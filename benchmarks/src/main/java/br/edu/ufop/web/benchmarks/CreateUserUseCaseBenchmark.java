@@ -0,0 +1,49 @@
+package br.edu.ufop.web.benchmarks;
+
+import br.edu.ufop.web.users.converter.UserConverter;
+import br.edu.ufop.web.users.domain.CCNetworkDomain;
+import br.edu.ufop.web.users.domain.UserDomain;
+import br.edu.ufop.web.users.domain.port.CCNRepositoryPort;
+import br.edu.ufop.web.users.domain.usecase.CreateUserUseCase;
+import br.edu.ufop.web.users.dto.CreateUserDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CreateUserUseCaseBenchmark {
+
+    private CreateUserUseCase useCase;
+    private CreateUserDTO createUserDTO;
+
+    @Setup
+    public void setup() {
+
+        UUID ccNetworkId = UUID.randomUUID();
+        CCNetworkDomain ccNetworkDomain = CCNetworkDomain.builder().id(ccNetworkId).name("Visa").build();
+
+        // Porta stub: isola o custo da validação do acesso ao banco
+        CCNRepositoryPort repositoryPort = id -> ccNetworkId.equals(id) ? Optional.of(ccNetworkDomain) : Optional.empty();
+
+        useCase = new CreateUserUseCase(repositoryPort);
+        createUserDTO = new CreateUserDTO("Fernando", "fernando@ufop.edu.br", "teste123", "4111111111111111",
+                "Ouro Preto", ccNetworkId);
+    }
+
+    @Benchmark
+    public UserDomain validate() {
+
+        return useCase.validate(UserConverter.toUserDomain(createUserDTO));
+    }
+
+}
@@ -0,0 +1,28 @@
+package br.edu.ufop.web.benchmarks;
+
+import br.edu.ufop.web.sales.enums.EnumEventType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EnumLookupBenchmark {
+
+    // Primeiro, último e inexistente
+    @Param({"1", "5", "99"})
+    public int id;
+
+    @Benchmark
+    public EnumEventType eventTypeGetById() {
+        return EnumEventType.getById(id);
+    }
+
+}
@@ -0,0 +1,86 @@
+package br.edu.ufop.web.benchmarks;
+
+import br.edu.ufop.web.sales.controller.dtos.events.CreateEventDTO;
+import br.edu.ufop.web.sales.enums.EnumEventType;
+import br.edu.ufop.web.sales.enums.EnumSaleStatus;
+import br.edu.ufop.web.sales.infrastructure.entities.EventEntity;
+import br.edu.ufop.web.sales.infrastructure.entities.SaleEntity;
+import br.edu.ufop.web.users.entity.CCNetworkEntity;
+import br.edu.ufop.web.users.entity.UserEntity;
+import br.edu.ufop.web.users.enums.EnumUserType;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+final class Fixtures {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 30, 10, 0);
+
+    private Fixtures() {
+    }
+
+    static EventEntity eventEntity() {
+
+        return EventEntity.builder()
+                .id(UUID.randomUUID())
+                .description("Playoffs - final do campeonato")
+                .type(EnumEventType.SHOW)
+                .dateTime(NOW.plusDays(30))
+                .startingSales(NOW)
+                .endingSales(NOW.plusDays(29))
+                .price(150.0f)
+                .capacity(5000)
+                .availableTickets(4200)
+                .createdAt(NOW)
+                .updatedAt(NOW)
+                .build();
+    }
+
+    static SaleEntity saleEntity(EventEntity eventEntity, EnumSaleStatus status) {
+
+        return SaleEntity.builder()
+                .id(UUID.randomUUID())
+                .userId(UUID.randomUUID())
+                .event(eventEntity)
+                .dateTime(NOW)
+                .status(status)
+                .createdAt(NOW)
+                .updatedAt(NOW)
+                .build();
+    }
+
+    static CreateEventDTO createEventDTO() {
+
+        return CreateEventDTO.builder()
+                .description("Playoffs - final do campeonato")
+                .type(EnumEventType.SHOW.getId())
+                .dateTime(NOW.plusDays(30))
+                .startingSales(NOW)
+                .endingSales(NOW.plusDays(29))
+                .price(150.0f)
+                .capacity(5000)
+                .build();
+    }
+
+    static CCNetworkEntity ccNetworkEntity() {
+        return CCNetworkEntity.builder().id(UUID.randomUUID()).name("Visa").comment("Bandeira").tax(2.5).build();
+    }
+
+    static UserEntity userEntity(CCNetworkEntity ccNetworkEntity) {
+
+        return UserEntity.builder()
+                .id(UUID.randomUUID())
+                .name("Fernando Torres")
+                .email("fernando@ufop.edu.br")
+                .password("teste123")
+                .city("Itabirito")
+                .creditCardNumber("4111111111111111")
+                .ccNetwork(ccNetworkEntity)
+                .type(EnumUserType.CUSTOMER)
+                .createdAt(NOW)
+                .updatedAt(NOW)
+                .active(true)
+                .build();
+    }
+
+}
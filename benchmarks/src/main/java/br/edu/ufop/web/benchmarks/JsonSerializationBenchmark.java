@@ -0,0 +1,76 @@
+package br.edu.ufop.web.benchmarks;
+
+import br.edu.ufop.web.sales.business.converters.EventConverter;
+import br.edu.ufop.web.sales.business.converters.SaleConverter;
+import br.edu.ufop.web.sales.controller.dtos.events.EventDTO;
+import br.edu.ufop.web.sales.controller.dtos.sales.SaleDTO;
+import br.edu.ufop.web.sales.enums.EnumSaleStatus;
+import br.edu.ufop.web.sales.infrastructure.entities.EventEntity;
+import br.edu.ufop.web.users.converter.UserConverter;
+import br.edu.ufop.web.users.dto.UserDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonSerializationBenchmark {
+
+    @Param({"50", "500"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+
+    private List<SaleDTO> saleDTOList;
+    private List<EventDTO> eventDTOList;
+    private List<UserDTO> userDTOList;
+
+    @Setup
+    public void setup() {
+
+        // Mesma configuração de datas do ObjectMapper do Spring Boot
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        List<EventEntity> eventEntityList = IntStream.range(0, size).mapToObj(i -> Fixtures.eventEntity()).toList();
+
+        eventDTOList = eventEntityList.stream().map(EventConverter::toDTO).toList();
+        saleDTOList = eventEntityList.stream()
+                .map(eventEntity -> SaleConverter.toDTO(Fixtures.saleEntity(eventEntity, EnumSaleStatus.EM_ABERTO)))
+                .toList();
+        userDTOList = IntStream.range(0, size)
+                .mapToObj(i -> UserConverter.toUserDTO(Fixtures.userEntity(Fixtures.ccNetworkEntity())))
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] sales() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(saleDTOList);
+    }
+
+    @Benchmark
+    public byte[] events() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(eventDTOList);
+    }
+
+    @Benchmark
+    public byte[] users() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(userDTOList);
+    }
+
+}
@@ -0,0 +1,74 @@
+package br.edu.ufop.web.benchmarks;
+
+import br.edu.ufop.web.sales.business.converters.EventConverter;
+import br.edu.ufop.web.sales.business.converters.SaleConverter;
+import br.edu.ufop.web.sales.controller.dtos.events.CreateEventDTO;
+import br.edu.ufop.web.sales.controller.dtos.events.EventDTO;
+import br.edu.ufop.web.sales.controller.dtos.sales.CreateSaleDTO;
+import br.edu.ufop.web.sales.controller.dtos.sales.SaleDTO;
+import br.edu.ufop.web.sales.enums.EnumSaleStatus;
+import br.edu.ufop.web.sales.infrastructure.entities.EventEntity;
+import br.edu.ufop.web.sales.infrastructure.entities.SaleEntity;
+import br.edu.ufop.web.sales.infrastructure.repositories.projections.SaleRowProjection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SalesConverterBenchmark {
+
+    private EventEntity eventEntity;
+    private SaleEntity saleEntity;
+    private SaleRowProjection saleRow;
+    private CreateEventDTO createEventDTO;
+    private CreateSaleDTO createSaleDTO;
+
+    @Setup
+    public void setup() {
+
+        eventEntity = Fixtures.eventEntity();
+        saleEntity = Fixtures.saleEntity(eventEntity, EnumSaleStatus.PAGO);
+        saleRow = new SaleRowProjection(saleEntity.getId(), saleEntity.getUserId(), saleEntity.getDateTime(),
+                saleEntity.getStatus(), saleEntity.getCreatedAt(), saleEntity.getUpdatedAt(),
+                eventEntity.getId(), eventEntity.getDescription(), eventEntity.getType(), eventEntity.getDateTime(),
+                eventEntity.getStartingSales(), eventEntity.getEndingSales(), eventEntity.getPrice(),
+                eventEntity.getCapacity(), eventEntity.getCreatedAt(), eventEntity.getUpdatedAt());
+        createEventDTO = Fixtures.createEventDTO();
+        createSaleDTO = CreateSaleDTO.builder().userId(saleEntity.getUserId()).eventId(eventEntity.getId()).build();
+    }
+
+    @Benchmark
+    public SaleDTO saleToDTO() {
+        return SaleConverter.toDTO(saleEntity);
+    }
+
+    // Caminho de GET /sales: projeção da consulta, sem SaleEntity/EventEntity
+    @Benchmark
+    public SaleDTO saleRowToDTO() {
+        return SaleConverter.toDTO(saleRow);
+    }
+
+    @Benchmark
+    public SaleEntity saleToEntity() {
+        return SaleConverter.toEntity(createSaleDTO);
+    }
+
+    @Benchmark
+    public EventDTO eventToDTO() {
+        return EventConverter.toDTO(eventEntity);
+    }
+
+    @Benchmark
+    public EventEntity eventToEntity() {
+        return EventConverter.toEntity(createEventDTO);
+    }
+
+}
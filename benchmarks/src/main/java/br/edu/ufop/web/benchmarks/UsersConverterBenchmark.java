@@ -0,0 +1,77 @@
+package br.edu.ufop.web.benchmarks;
+
+import br.edu.ufop.web.users.converter.CCNetworkConverter;
+import br.edu.ufop.web.users.converter.UserConverter;
+import br.edu.ufop.web.users.domain.CCNetworkDomain;
+import br.edu.ufop.web.users.domain.UserDomain;
+import br.edu.ufop.web.users.dto.CreateCreditCardNetworkDTO;
+import br.edu.ufop.web.users.dto.CreditCardNetworkDTO;
+import br.edu.ufop.web.users.dto.UserDTO;
+import br.edu.ufop.web.users.entity.CCNetworkEntity;
+import br.edu.ufop.web.users.entity.UserEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UsersConverterBenchmark {
+
+    private UserEntity userEntity;
+    private CCNetworkEntity ccNetworkEntity;
+    private CreateCreditCardNetworkDTO createCreditCardNetworkDTO;
+
+    @Setup
+    public void setup() {
+
+        ccNetworkEntity = Fixtures.ccNetworkEntity();
+        userEntity = Fixtures.userEntity(ccNetworkEntity);
+        createCreditCardNetworkDTO = new CreateCreditCardNetworkDTO("Visa");
+    }
+
+    // Caminho de GET /users: o UserDTO é montado pela consulta (new UserDTO(u.id, u.name, u.email)),
+    // uma única alocação por linha
+    @Benchmark
+    public UserDTO userColumnsToDTO() {
+        return new UserDTO(userEntity.getId(), userEntity.getName(), userEntity.getEmail());
+    }
+
+    @Benchmark
+    public UserDTO userEntityToDTO() {
+        return UserConverter.toUserDTO(userEntity);
+    }
+
+    // Caminho anterior de GET /users: entidade convertida em UserDomain (com CCNetworkDomain) descartado antes do DTO
+    @Benchmark
+    public UserDTO userEntityToDomainToDTO() {
+        return UserConverter.toUserDTO(UserConverter.toDomain(userEntity));
+    }
+
+    @Benchmark
+    public UserDomain userEntityToDomain() {
+        return UserConverter.toDomain(userEntity);
+    }
+
+    @Benchmark
+    public CreditCardNetworkDTO ccNetworkToDto() {
+        return CCNetworkConverter.toDto(ccNetworkEntity);
+    }
+
+    @Benchmark
+    public CCNetworkDomain ccNetworkToDomain() {
+        return CCNetworkConverter.toDomain(ccNetworkEntity);
+    }
+
+    @Benchmark
+    public CCNetworkDomain ccNetworkDtoToDomain() {
+        return CCNetworkConverter.toDomain(createCreditCardNetworkDTO);
+    }
+
+}
@@ -0,0 +1,30 @@
+package br.edu.ufop.web.benchmarks;
+
+import br.edu.ufop.web.sales.infrastructure.entities.TimeOrderedUuidGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Várias threads gerando ids ao mesmo tempo, como nos inserts simultâneos de vendas
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(8)
+public class UuidGeneratorBenchmark {
+
+    // Esquema anterior: @GeneratedValue(AUTO) usa UUID.randomUUID(), com um único SecureRandom compartilhado
+    @Benchmark
+    public UUID random() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    public UUID timeOrdered() {
+        return TimeOrderedUuidGenerator.next();
+    }
+
+}
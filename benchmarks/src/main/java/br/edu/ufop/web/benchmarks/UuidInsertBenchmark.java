@@ -0,0 +1,133 @@
+package br.edu.ufop.web.benchmarks;
+
+import br.edu.ufop.web.sales.infrastructure.entities.TimeOrderedUuidGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Taxa de inserção sustentada numa cópia de tb_sales que já tem {@code preloadRows} linhas, para cada esquema de id.
+ * Precisa de um PostgreSQL no ar (o do docker compose, por padrão); ao final de cada rodada imprime o tamanho
+ * do índice da chave primária e da tabela. Fica de fora das rodadas comuns: execute com {@code UuidInsert}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(UuidInsertBenchmark.BATCH_SIZE)
+@Threads(1)
+@Fork(1)
+public class UuidInsertBenchmark {
+
+    static final int BATCH_SIZE = 100;
+
+    private static final String TABLE = "bench_uuid_sales";
+
+    @Param({"random", "timeOrdered"})
+    public String scheme;
+
+    @Param("1000000")
+    public int preloadRows;
+
+    @Param("jdbc:postgresql://localhost:9876/tickets-sales?reWriteBatchedInserts=true")
+    public String url;
+
+    @Param("pg-tickets-sales")
+    public String user;
+
+    @Param("tickets-sales-password")
+    public String password;
+
+    private Connection connection;
+    private PreparedStatement insert;
+    private UUID userId;
+    private UUID eventId;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+
+        connection = DriverManager.getConnection(url, user, password);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+            // Mesmas colunas e chave primária de tb_sales, sem a FK para tb_events
+            statement.execute("CREATE TABLE " + TABLE + " (" +
+                    "id uuid NOT NULL, user_id uuid, event_id uuid, date_time timestamp(6), status smallint, " +
+                    "created_at timestamp(6), updated_at timestamp(6), CONSTRAINT " + TABLE + "_pkey PRIMARY KEY (id))");
+        }
+
+        insert = connection.prepareStatement("INSERT INTO " + TABLE +
+                " (id, user_id, event_id, date_time, status, created_at, updated_at) VALUES (?, ?, ?, ?, 0, ?, ?)");
+
+        userId = UUID.randomUUID();
+        eventId = UUID.randomUUID();
+
+        for (int loaded = 0; loaded < preloadRows; loaded += BATCH_SIZE) {
+            insertBatch();
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("VACUUM ANALYZE " + TABLE);
+        }
+    }
+
+    // Cada lote é confirmado sozinho (autocommit), como um POST /sales/batch
+    @Benchmark
+    public void insertBatch() throws SQLException {
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            insert.setObject(1, "random".equals(scheme) ? UUID.randomUUID() : TimeOrderedUuidGenerator.next());
+            insert.setObject(2, userId);
+            insert.setObject(3, eventId);
+            insert.setTimestamp(4, now);
+            insert.setTimestamp(5, now);
+            insert.setTimestamp(6, now);
+            insert.addBatch();
+        }
+
+        insert.executeBatch();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+
+        try (Statement statement = connection.createStatement();
+             ResultSet sizes = statement.executeQuery("SELECT count(*), " +
+                     "pg_relation_size('" + TABLE + "_pkey'), pg_relation_size('" + TABLE + "') FROM " + TABLE)) {
+
+            sizes.next();
+            long rows = sizes.getLong(1);
+            long indexBytes = sizes.getLong(2);
+
+            System.out.printf("%n[%s] %d linhas, índice da PK %d MiB (%.1f bytes/linha), tabela %d MiB%n",
+                    scheme, rows, indexBytes >> 20, (double) indexBytes / rows, sizes.getLong(3) >> 20);
+
+            statement.execute("DROP TABLE " + TABLE);
+        } finally {
+            connection.close();
+        }
+    }
+
+}
@@ -2,6 +2,7 @@ import { useEffect, useState } from "react";
 import { useNavigate } from "react-router-dom";
 import api from "@/services/api.ts";
 import { type EventInterface, EventTypeLabels } from "@/types/events.ts";
+import { type CursorPage } from "@/types/pages.ts";
 import { Card, CardContent, CardDescription, CardFooter, CardHeader, CardTitle } from "@/components/ui/card";
 import { Button } from "@/components/ui/button";
 import { PlusCircle, Calendar, Tag, Pencil, Trash2, MapPin, Clock } from "lucide-react";
@@ -10,18 +11,36 @@ import { type AxiosResponse, AxiosError } from "axios";
 const ListEvents = () => {
     const [events, setEvents] = useState<EventInterface[]>([]);
     const [deletingId, setDeletingId] = useState<string | null>(null);
+    const [next, setNext] = useState<string | null>(null);
+    const [loadingMore, setLoadingMore] = useState(false);
     const navigate = useNavigate();
 
     useEffect(() => {
-        api.get<EventInterface[]>("/sales/events")
-            .then((response: AxiosResponse<EventInterface[]>) => {
-                setEvents(response.data);
+        api.get<CursorPage<EventInterface>>("/sales/events")
+            .then((response: AxiosResponse<CursorPage<EventInterface>>) => {
+                setEvents(response.data.items);
+                setNext(response.data.next);
             })
             .catch((error: AxiosError) => {
                 console.error("Erro ao buscar eventos:", error.message);
             });
     }, []);
 
+    // A API devolve uma página por vez; as seguintes vêm do cursor next
+    const handleLoadMore = () => {
+        if (!next) return;
+        setLoadingMore(true);
+        api.get<CursorPage<EventInterface>>("/sales/events", { params: { cursor: next } })
+            .then((response: AxiosResponse<CursorPage<EventInterface>>) => {
+                setEvents((prevEvents) => [...prevEvents, ...response.data.items]);
+                setNext(response.data.next);
+            })
+            .catch((error: AxiosError) => {
+                console.error("Erro ao buscar eventos:", error.message);
+            })
+            .finally(() => setLoadingMore(false));
+    };
+
     const handleDeleteEvent = async (id: string) => {
         const confirmed = window.confirm("Tem certeza que deseja excluir este evento?");
         if (!confirmed) return;
@@ -219,6 +238,14 @@ const ListEvents = () => {
                         })}
                     </div>
                 )}
+
+                {next && (
+                    <div className="flex justify-center mt-8">
+                        <Button variant="outline" onClick={handleLoadMore} disabled={loadingMore}>
+                            {loadingMore ? "Carregando..." : "Carregar mais"}
+                        </Button>
+                    </div>
+                )}
             </div>
         </div>
     );
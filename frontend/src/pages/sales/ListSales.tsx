@@ -36,7 +36,9 @@ const statusMap: Record<string, { label: string; variant: 'default' | 'secondary
 
 export default function ListSales() {
     const [sales, setSales] = useState<Sale[]>([]);
+    const [next, setNext] = useState<string | null>(null);
     const [loading, setLoading] = useState(true);
+    const [loadingMore, setLoadingMore] = useState(false);
     const navigate = useNavigate();
 
     useEffect(() => {
@@ -45,8 +47,9 @@ export default function ListSales() {
 
     const loadSales = async () => {
         try {
-            const data = await getSales();
-            setSales(data);
+            const page = await getSales();
+            setSales(page.items);
+            setNext(page.next);
         } catch (error) {
             console.error('Erro ao carregar vendas:', error);
         } finally {
@@ -54,6 +57,21 @@ export default function ListSales() {
         }
     };
 
+    // A API devolve uma página por vez; as seguintes vêm do cursor next
+    const loadMoreSales = async () => {
+        if (!next) return;
+        setLoadingMore(true);
+        try {
+            const page = await getSales(next);
+            setSales((current) => [...current, ...page.items]);
+            setNext(page.next);
+        } catch (error) {
+            console.error('Erro ao carregar vendas:', error);
+        } finally {
+            setLoadingMore(false);
+        }
+    };
+
     const handleDelete = async (id: string) => {
         try {
             await deleteSale(id);
@@ -151,6 +169,13 @@ export default function ListSales() {
                     </TableBody>
                 </Table>
             </div>
+            {next && (
+                <div className="flex justify-center mt-4">
+                    <Button variant="outline" onClick={loadMoreSales} disabled={loadingMore}>
+                        {loadingMore ? 'Carregando...' : 'Carregar mais'}
+                    </Button>
+                </div>
+            )}
         </div>
     );
 }
\ No newline at end of file
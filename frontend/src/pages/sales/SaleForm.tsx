@@ -4,7 +4,7 @@ import { useForm } from 'react-hook-form';
 import { zodResolver } from '@hookform/resolvers/zod';
 import * as z from 'zod';
 import { getSaleById, createSale, updateSale } from '../../services/sales';
-import { getEvents } from '../../services/events';
+import { getAllEvents } from '../../services/events';
 import { getUsers } from '../../services/users';
 import { EventInterface } from '../../types/events';
 import { User } from '../../types/users';
@@ -65,7 +65,7 @@ export default function SaleForm() {
     useEffect(() => {
         const loadOptions = async () => {
             try {
-                const [eventsData, usersData] = await Promise.all([getEvents(), getUsers()]);
+                const [eventsData, usersData] = await Promise.all([getAllEvents(), getUsers()]);
                 setEvents(eventsData);
                 setUsers(usersData);
             } catch (error) {
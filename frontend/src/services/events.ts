@@ -1,7 +1,20 @@
 import api from './api';
-import { EventInterface } from '../types/events';
+import { EventFilter, EventInterface } from '../types/events';
+import { CursorPage } from '../types/pages';
 
-export const getEvents = async (): Promise<EventInterface[]> => {
-    const response = await api.get('/events');
+export const getEvents = async (cursor?: string, filter?: EventFilter): Promise<CursorPage<EventInterface>> => {
+    const response = await api.get('/events', { params: { cursor, ...filter } });
     return response.data;
-};
\ No newline at end of file
+};
+
+// Percorre todas as páginas seguindo o cursor next, para listas que precisam de todos os eventos (ex.: seleção na venda)
+export const getAllEvents = async (filter?: EventFilter): Promise<EventInterface[]> => {
+    const events: EventInterface[] = [];
+    let cursor: string | undefined;
+    do {
+        const page = await getEvents(cursor, filter);
+        events.push(...page.items);
+        cursor = page.next ?? undefined;
+    } while (cursor);
+    return events;
+};
@@ -1,8 +1,9 @@
 import api from './api';
-import { Sale, CreateSaleDTO, UpdateSaleDTO } from '../types/sales';
+import { Sale, CreateSaleDTO, SaleFilter, UpdateSaleDTO } from '../types/sales';
+import { CursorPage } from '../types/pages';
 
-export const getSales = async (): Promise<Sale[]> => {
-    const response = await api.get('/sales');
+export const getSales = async (cursor?: string, filter?: SaleFilter): Promise<CursorPage<Sale>> => {
+    const response = await api.get('/sales', { params: { cursor, ...filter } });
     return response.data;
 };
 
@@ -12,7 +13,8 @@ export const getSaleById = async (id: string): Promise<Sale> => {
 };
 
 export const createSale = async (data: CreateSaleDTO): Promise<Sale> => {
-    const response = await api.post('/sales', data);
+    // O gateway só aceita criações de venda que informam o evento da sala de espera
+    const response = await api.post('/sales', data, { headers: { 'X-Event-Id': data.eventId } });
     return response.data;
 };
 
@@ -19,4 +19,11 @@ export const EventTypeLabels: Record<EnumEventType, string> = {
     TEATRO: "Teatro",
     CURSO: "Curso",
     GERAL: "Geral/não especificado",
-};
\ No newline at end of file
+};
+// Filtros de GET /events; type é o id numérico do tipo (1 = Palestra ... 5 = Geral)
+export interface EventFilter {
+    type?: number;
+    from?: string;
+    to?: string;
+    onSale?: boolean;
+}
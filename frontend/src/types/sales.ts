@@ -22,4 +22,12 @@ export interface CreateSaleDTO {
 
 export interface UpdateSaleDTO {
     status: SaleStatus;
-}
\ No newline at end of file
+}
+
+export interface SaleFilter {
+    userId?: string;
+    eventId?: string;
+    status?: SaleStatus;
+    from?: string;
+    to?: string;
+}
@@ -1,5 +1,6 @@
 package br.edu.ufop.web.gateway.config;
 
+import br.edu.ufop.web.gateway.waitingroom.WaitingRoomFilter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.gateway.route.RouteLocator;
 import org.springframework.cloud.gateway.route.builder.RouteLocatorBuilder;
@@ -18,7 +19,7 @@ public class GatewayApiConfig {
     private String frontEndUri;
 
     @Bean
-    public RouteLocator gatewayRouter(RouteLocatorBuilder builder) {
+    public RouteLocator gatewayRouter(RouteLocatorBuilder builder, WaitingRoomFilter waitingRoomFilter) {
         return builder.routes()
                 // Rota de Usuários: aceita /api/users/** ou /users/**
                 .route("users-service", pred -> pred.path("/api/users/**", "/users/**")
@@ -27,8 +28,10 @@ public class GatewayApiConfig {
                         .uri("lb://users-service"))
 
                 // Rota de Vendas (Sales): aceita /api/sales/** ou /sales/**
+                // Criações de venda (POST) passam pela sala de espera do evento antes de chegar ao serviço
                 .route("sales-service", pred -> pred.path("/api/sales/**", "/sales/**")
-                        .filters(f -> f.rewritePath("/api/sales/(?<segment>.*)", "/${segment}")
+                        .filters(f -> f.filter(waitingRoomFilter)
+                                .rewritePath("/api/sales/(?<segment>.*)", "/${segment}")
                                 .rewritePath("/sales/(?<segment>.*)", "/${segment}"))
                         .uri("lb://sales-service"))
 
@@ -45,7 +48,9 @@ public class GatewayApiConfig {
         corsConfig.setAllowedOrigins(Arrays.asList("http://localhost:5173", "http://localhost:3000"));
         corsConfig.setMaxAge(3600L);
         corsConfig.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
-        corsConfig.setAllowedHeaders(Arrays.asList("Content-Type", "Authorization", "x-requested-with"));
+        corsConfig.setAllowedHeaders(Arrays.asList("Content-Type", "Authorization", "x-requested-with", "Idempotency-Key", "If-None-Match",
+                WaitingRoomFilter.EVENT_HEADER, WaitingRoomFilter.TOKEN_HEADER));
+        corsConfig.setExposedHeaders(Arrays.asList("Retry-After", "ETag", WaitingRoomFilter.TOKEN_HEADER, WaitingRoomFilter.POSITION_HEADER));
         corsConfig.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
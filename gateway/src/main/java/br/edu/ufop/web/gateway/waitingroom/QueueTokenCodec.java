@@ -0,0 +1,74 @@
+package br.edu.ufop.web.gateway.waitingroom;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Token da fila assinado com HMAC: "evento|ticket|expiração" + assinatura, em Base64 URL.
+ * O gateway não guarda os tokens emitidos; basta validar a assinatura.
+ */
+class QueueTokenCodec {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String SEPARATOR = "|";
+
+    private final SecretKeySpec key;
+
+    QueueTokenCodec(byte[] secret) {
+        this.key = new SecretKeySpec(secret, ALGORITHM);
+    }
+
+    record QueueToken(String eventId, long ticket, long expiresAtMillis) {
+    }
+
+    String encode(QueueToken token) {
+
+        byte[] payload = (token.eventId() + SEPARATOR + token.ticket() + SEPARATOR + token.expiresAtMillis())
+                .getBytes(StandardCharsets.UTF_8);
+
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString(payload) + "." + encoder.encodeToString(sign(payload));
+    }
+
+    Optional<QueueToken> decode(String value) {
+
+        try {
+            int dot = value.indexOf('.');
+
+            if (dot < 0) {
+                return Optional.empty();
+            }
+
+            Base64.Decoder decoder = Base64.getUrlDecoder();
+            byte[] payload = decoder.decode(value.substring(0, dot));
+            byte[] signature = decoder.decode(value.substring(dot + 1));
+
+            if (!MessageDigest.isEqual(sign(payload), signature)) {
+                return Optional.empty();
+            }
+
+            String[] parts = new String(payload, StandardCharsets.UTF_8).split("\\|");
+            return Optional.of(new QueueToken(parts[0], Long.parseLong(parts[1]), Long.parseLong(parts[2])));
+
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            return Optional.empty();
+        }
+    }
+
+    private byte[] sign(byte[] payload) {
+
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(payload);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,84 @@
+package br.edu.ufop.web.gateway.waitingroom;
+
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Fila de um evento. Cada cliente recebe um número sequencial (ticket) e é liberado quando o total de vagas
+ * já abertas ultrapassa o seu número. As vagas abrem à taxa configurada e, com a fila vazia, acumulam até
+ * o tamanho da rajada. A posição é derivada do próprio ticket; a sala só guarda os tickets já usados para entrar,
+ * até o token de cada um expirar, para que um token valha uma única entrada.
+ */
+class WaitingRoom {
+
+    private final double slotsPerNano;
+    private final long burst;
+
+    private double released;
+    private long issued;
+    private long lastRefillNanos;
+
+    // Expiração do último token entregue a um cliente que ficou na fila
+    private long heldUntilMillis;
+
+    // Ticket -> expiração do token. Tickets maiores expiram depois, então os expirados ficam no início
+    private final NavigableMap<Long, Long> spent = new TreeMap<>();
+
+    WaitingRoom(double ratePerSecond, long burst, long nowNanos) {
+
+        this.slotsPerNano = ratePerSecond / 1_000_000_000d;
+        this.burst = burst;
+        this.released = burst;
+        this.lastRefillNanos = nowNanos;
+    }
+
+    synchronized long enter(long nowNanos, long tokenExpiresAtMillis) {
+
+        refill(nowNanos);
+        long ticket = issued++;
+
+        // Quem fica na fila leva o token: a sala precisa existir até ele expirar
+        if (ticket >= (long) released) {
+            heldUntilMillis = Math.max(heldUntilMillis, tokenExpiresAtMillis);
+        }
+
+        return ticket;
+    }
+
+    synchronized long position(long ticket, long nowNanos) {
+
+        refill(nowNanos);
+        return Math.max(0, ticket - (long) released + 1);
+    }
+
+    // Falso se o ticket já foi usado para entrar
+    synchronized boolean spend(long ticket, long tokenExpiresAtMillis, long nowMillis) {
+
+        Map.Entry<Long, Long> oldest;
+
+        while ((oldest = spent.firstEntry()) != null && oldest.getValue() <= nowMillis) {
+            spent.pollFirstEntry();
+        }
+
+        return spent.putIfAbsent(ticket, tokenExpiresAtMillis) == null;
+    }
+
+    synchronized boolean isSpent(long ticket) {
+        return spent.containsKey(ticket);
+    }
+
+    // Sem tokens válidos em mãos de clientes e com a rajada cheia: descartar e recriar a sala não muda nada
+    synchronized boolean isIdle(long nowNanos, long nowMillis) {
+
+        refill(nowNanos);
+        return heldUntilMillis <= nowMillis && released >= issued + burst;
+    }
+
+    private void refill(long nowNanos) {
+
+        released = Math.min(released + (nowNanos - lastRefillNanos) * slotsPerNano, issued + burst);
+        lastRefillNanos = nowNanos;
+    }
+
+}
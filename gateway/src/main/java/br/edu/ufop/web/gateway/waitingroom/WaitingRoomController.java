@@ -0,0 +1,29 @@
+package br.edu.ufop.web.gateway.waitingroom;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/waiting-room")
+@RequiredArgsConstructor
+public class WaitingRoomController {
+
+    private final WaitingRoomRegistry waitingRoomRegistry;
+
+    @GetMapping("/{eventId}")
+    public ResponseEntity<WaitingRoomRegistry.Admission> getStatus(@PathVariable UUID eventId,
+                                                                  @RequestHeader(WaitingRoomFilter.TOKEN_HEADER) String token) {
+
+        return waitingRoomRegistry.status(eventId, token)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+}
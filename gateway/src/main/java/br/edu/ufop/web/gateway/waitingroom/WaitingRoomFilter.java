@@ -0,0 +1,123 @@
+package br.edu.ufop.web.gateway.waitingroom;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Sala de espera das rotas de vendas. Toda criação de venda (POST /sales e POST /sales/batch) precisa informar o evento
+ * (cabeçalho X-Event-Id ou parâmetro eventId) e é recusada com 400 sem ele; o evento segue para o sales-service no
+ * cabeçalho X-Event-Id, que confere se ele é o mesmo do corpo. Leituras como GET /sales?eventId= e o restante do
+ * tráfego passam direto. Quem excede a vazão do evento recebe 429 com um token e a posição na fila, que pode ser
+ * consultada em GET /waiting-room/{eventId}; o token vale uma única entrada.
+ */
+@Component
+@RequiredArgsConstructor
+public class WaitingRoomFilter implements GatewayFilter, Ordered {
+
+    public static final String EVENT_HEADER = "X-Event-Id";
+    public static final String EVENT_PARAM = "eventId";
+    public static final String TOKEN_HEADER = "X-Queue-Token";
+    public static final String POSITION_HEADER = "X-Queue-Position";
+
+    // Caminho antes do rewritePath da rota: /sales, /sales/batch e as mesmas rotas sob /api
+    private static final Pattern SALE_CREATION_PATH = Pattern.compile("(/api)?/sales(/batch)?/?");
+
+    private final WaitingRoomRegistry waitingRoomRegistry;
+    private final ObjectMapper objectMapper;
+
+    private record Queued(String eventId, String token, long position, long retryAfterMillis) {
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+
+        ServerHttpRequest request = exchange.getRequest();
+
+        if (!HttpMethod.POST.equals(request.getMethod())
+                || !SALE_CREATION_PATH.matcher(request.getPath().value()).matches()) {
+            return chain.filter(exchange);
+        }
+
+        String eventId = request.getHeaders().getFirst(EVENT_HEADER);
+
+        if (eventId == null) {
+            eventId = request.getQueryParams().getFirst(EVENT_PARAM);
+        }
+
+        // Sem o evento a venda escaparia da fila
+        if (eventId == null || eventId.isBlank()) {
+            return badRequest(exchange.getResponse());
+        }
+
+        UUID event;
+
+        try {
+            event = UUID.fromString(eventId.trim());
+        } catch (IllegalArgumentException e) {
+            // Ids arbitrários não criam salas: cada sala ocupa memória no gateway
+            return badRequest(exchange.getResponse());
+        }
+
+        Optional<WaitingRoomRegistry.Admission> entered = waitingRoomRegistry.enter(event, request.getHeaders().getFirst(TOKEN_HEADER));
+
+        // Todas as salas estão ocupadas: recusar é melhor que descartar a fila de outro evento
+        if (entered.isEmpty()) {
+            exchange.getResponse().setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+            exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, "1");
+            return exchange.getResponse().setComplete();
+        }
+
+        WaitingRoomRegistry.Admission admission = entered.get();
+
+        if (admission.admitted()) {
+            // O evento informado por parâmetro também segue no cabeçalho, para o sales-service conferir com o corpo
+            return chain.filter(exchange.mutate()
+                    .request(request.mutate().headers(headers -> headers.set(EVENT_HEADER, event.toString())).build())
+                    .build());
+        }
+
+        return queued(exchange.getResponse(), event, admission);
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    private Mono<Void> badRequest(ServerHttpResponse response) {
+
+        response.setStatusCode(HttpStatus.BAD_REQUEST);
+        return response.setComplete();
+    }
+
+    private Mono<Void> queued(ServerHttpResponse response, UUID eventId, WaitingRoomRegistry.Admission admission) {
+
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, admission.retryAfterMillis() / 1000)));
+        response.getHeaders().set(TOKEN_HEADER, admission.token());
+        response.getHeaders().set(POSITION_HEADER, String.valueOf(admission.position()));
+
+        Queued body = new Queued(eventId.toString(), admission.token(), admission.position(), admission.retryAfterMillis());
+
+        return response.writeWith(Mono.fromCallable(() ->
+                response.bufferFactory().wrap(objectMapper.writeValueAsBytes(body))));
+    }
+
+}
@@ -0,0 +1,165 @@
+package br.edu.ufop.web.gateway.waitingroom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+@Component
+public class WaitingRoomRegistry {
+
+    private static final long MIN_RETRY_MILLIS = 500;
+    private static final long MAX_RETRY_MILLIS = 30_000;
+    private static final long PURGE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final double ratePerSecond;
+    private final long burst;
+    private final Duration tokenTtl;
+    private final long maxRooms;
+    private final QueueTokenCodec tokenCodec;
+
+    // Uma sala só sai do mapa ociosa (ver WaitingRoom.isIdle): descartar uma sala com clientes na fila zeraria a fila
+    private final ConcurrentMap<String, WaitingRoom> rooms = new ConcurrentHashMap<>();
+    private final AtomicLong nextPurgeNanos = new AtomicLong(System.nanoTime());
+
+    public WaitingRoomRegistry(@Value("${gateway.waiting-room.rate-per-second:100}") double ratePerSecond,
+                               @Value("${gateway.waiting-room.burst:200}") long burst,
+                               @Value("${gateway.waiting-room.token-ttl:PT30M}") Duration tokenTtl,
+                               @Value("${gateway.waiting-room.max-rooms:10000}") long maxRooms,
+                               @Value("${gateway.waiting-room.secret:}") String secret) {
+
+        this.ratePerSecond = ratePerSecond;
+        this.burst = burst;
+        this.tokenTtl = tokenTtl;
+        this.maxRooms = maxRooms;
+        this.tokenCodec = new QueueTokenCodec(secret.isBlank() ? randomSecret() : secret.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public record Admission(boolean admitted, String token, long position, long retryAfterMillis) {
+    }
+
+    // Cliente sem token (ou com token inválido, expirado ou já usado) entra no fim da fila do evento.
+    // Vazio quando já há max-rooms salas ocupadas e a deste evento não pode ser aberta
+    public Optional<Admission> enter(UUID event, String token) {
+
+        String eventId = event.toString();
+        long now = System.nanoTime();
+        long nowMillis = System.currentTimeMillis();
+        Optional<QueueTokenCodec.QueueToken> presented = decode(eventId, token, nowMillis);
+
+        return inRoom(eventId, now, room -> {
+
+            if (presented.isPresent()) {
+
+                QueueTokenCodec.QueueToken queueToken = presented.get();
+                long position = room.position(queueToken.ticket(), now);
+
+                if (position > 0) {
+                    return admission(token, position);
+                }
+
+                // Cada token vale uma entrada; repetido, volta para o fim da fila
+                if (room.spend(queueToken.ticket(), queueToken.expiresAtMillis(), nowMillis)) {
+                    return admission(token, 0);
+                }
+            }
+
+            long expiresAtMillis = nowMillis + tokenTtl.toMillis();
+            long ticket = room.enter(now, expiresAtMillis);
+
+            return admission(tokenCodec.encode(new QueueTokenCodec.QueueToken(eventId, ticket, expiresAtMillis)),
+                    room.position(ticket, now));
+        });
+    }
+
+    // Consulta barata da posição: não altera a fila
+    public Optional<Admission> status(UUID event, String token) {
+
+        String eventId = event.toString();
+        long now = System.nanoTime();
+
+        return decode(eventId, token, System.currentTimeMillis())
+                .flatMap(queueToken -> inRoom(eventId, now, room -> room.isSpent(queueToken.ticket())
+                        ? null
+                        : admission(token, room.position(queueToken.ticket(), now))));
+    }
+
+    private Optional<QueueTokenCodec.QueueToken> decode(String eventId, String token, long nowMillis) {
+
+        return Optional.ofNullable(token)
+                .flatMap(tokenCodec::decode)
+                .filter(decoded -> decoded.eventId().equals(eventId))
+                .filter(decoded -> decoded.expiresAtMillis() > nowMillis);
+    }
+
+    // A ação roda dentro do compute da chave, então a sala não pode ser descartada no meio dela
+    private Optional<Admission> inRoom(String eventId, long now, Function<WaitingRoom, Admission> action) {
+
+        if (!rooms.containsKey(eventId) && rooms.size() >= maxRooms) {
+            purgeIdleRooms(now);
+        }
+
+        AtomicReference<Admission> admission = new AtomicReference<>();
+
+        rooms.compute(eventId, (key, room) -> {
+
+            if (room == null) {
+
+                if (rooms.size() >= maxRooms) {
+                    return null;
+                }
+
+                room = new WaitingRoom(ratePerSecond, burst, now);
+            }
+
+            admission.set(action.apply(room));
+            return room;
+        });
+
+        return Optional.ofNullable(admission.get());
+    }
+
+    // No máximo uma varredura por segundo, mesmo com pedidos de salas novas chegando com o mapa cheio
+    private void purgeIdleRooms(long now) {
+
+        long next = nextPurgeNanos.get();
+
+        if (now - next < 0 || !nextPurgeNanos.compareAndSet(next, now + PURGE_INTERVAL_NANOS)) {
+            return;
+        }
+
+        long nowMillis = System.currentTimeMillis();
+
+        for (String eventId : rooms.keySet()) {
+            rooms.computeIfPresent(eventId, (key, room) -> room.isIdle(now, nowMillis) ? null : room);
+        }
+    }
+
+    private Admission admission(String token, long position) {
+
+        if (position == 0) {
+            return new Admission(true, token, 0, 0);
+        }
+
+        long retryAfter = (long) (position / ratePerSecond * 1000);
+        return new Admission(false, token, position, Math.max(MIN_RETRY_MILLIS, Math.min(MAX_RETRY_MILLIS, retryAfter)));
+    }
+
+    private static byte[] randomSecret() {
+
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        return secret;
+    }
+
+}
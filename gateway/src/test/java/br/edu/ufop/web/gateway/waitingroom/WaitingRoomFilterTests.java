@@ -0,0 +1,108 @@
+package br.edu.ufop.web.gateway.waitingroom;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Criações de venda sem o evento não podem escapar da fila; o restante do tráfego passa direto
+class WaitingRoomFilterTests {
+
+    private static final String SALE_BODY = "{\"userId\":\"" + UUID.randomUUID() + "\",\"eventId\":\"" + UUID.randomUUID() + "\"}";
+
+    private WaitingRoomFilter waitingRoomFilter;
+    private List<ServerWebExchange> forwarded;
+    private GatewayFilterChain chain;
+
+    @BeforeEach
+    void setup() {
+
+        WaitingRoomRegistry waitingRoomRegistry = new WaitingRoomRegistry(1, 1, Duration.ofMinutes(30), 100, "segredo");
+        waitingRoomFilter = new WaitingRoomFilter(waitingRoomRegistry, new ObjectMapper());
+        forwarded = new ArrayList<>();
+        chain = exchange -> {
+            forwarded.add(exchange);
+            return Mono.empty();
+        };
+    }
+
+    @Test
+    void unkeyedSaleCreationIsRejected() {
+
+        for (String path : List.of("/api/sales", "/sales", "/sales/", "/api/sales/batch")) {
+
+            MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post(path).body(SALE_BODY));
+            waitingRoomFilter.filter(exchange, chain).block();
+
+            assertEquals(HttpStatus.BAD_REQUEST, exchange.getResponse().getStatusCode());
+        }
+
+        assertTrue(forwarded.isEmpty());
+    }
+
+    @Test
+    void malformedEventIsRejected() {
+
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/sales")
+                .header(WaitingRoomFilter.EVENT_HEADER, "evento-1")
+                .body(SALE_BODY));
+        waitingRoomFilter.filter(exchange, chain).block();
+
+        assertEquals(HttpStatus.BAD_REQUEST, exchange.getResponse().getStatusCode());
+        assertTrue(forwarded.isEmpty());
+    }
+
+    // Com rajada 1, a primeira criação passa (levando o evento no cabeçalho) e a segunda vai para a fila
+    @Test
+    void keyedSaleCreationIsQueuedAboveTheRate() {
+
+        UUID eventId = UUID.randomUUID();
+
+        MockServerWebExchange first = MockServerWebExchange.from(MockServerHttpRequest.post("/api/sales")
+                .queryParam(WaitingRoomFilter.EVENT_PARAM, eventId.toString())
+                .body(SALE_BODY));
+        waitingRoomFilter.filter(first, chain).block();
+
+        assertEquals(1, forwarded.size());
+        assertEquals(eventId.toString(), forwarded.get(0).getRequest().getHeaders().getFirst(WaitingRoomFilter.EVENT_HEADER));
+
+        MockServerWebExchange second = MockServerWebExchange.from(MockServerHttpRequest.post("/api/sales")
+                .header(WaitingRoomFilter.EVENT_HEADER, eventId.toString())
+                .body(SALE_BODY));
+        waitingRoomFilter.filter(second, chain).block();
+
+        assertEquals(1, forwarded.size());
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, second.getResponse().getStatusCode());
+        assertNotNull(second.getResponse().getHeaders().getFirst(WaitingRoomFilter.TOKEN_HEADER));
+    }
+
+    @Test
+    void otherRequestsPassThrough() {
+
+        List<MockServerHttpRequest> requests = List.of(
+                MockServerHttpRequest.get("/api/sales").queryParam(WaitingRoomFilter.EVENT_PARAM, "qualquer").build(),
+                MockServerHttpRequest.put("/api/sales/" + UUID.randomUUID()).body("{\"status\":\"PAGO\"}"),
+                MockServerHttpRequest.post("/api/sales/events").body("{}"));
+
+        for (MockServerHttpRequest request : requests) {
+            waitingRoomFilter.filter(MockServerWebExchange.from(request), chain).block();
+        }
+
+        assertEquals(requests.size(), forwarded.size());
+    }
+
+}
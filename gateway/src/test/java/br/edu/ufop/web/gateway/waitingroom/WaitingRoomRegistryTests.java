@@ -0,0 +1,71 @@
+package br.edu.ufop.web.gateway.waitingroom;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WaitingRoomRegistryTests {
+
+    // Uma vaga a cada 500 ms: a fila anda durante o teste, mas não entre duas chamadas seguidas
+    private static final double RATE_PER_SECOND = 2;
+
+    @Test
+    void tokenAdmitsOnlyOnce() throws InterruptedException {
+
+        WaitingRoomRegistry waitingRoomRegistry = new WaitingRoomRegistry(RATE_PER_SECOND, 1, Duration.ofMinutes(30), 10, "segredo");
+        UUID eventId = UUID.randomUUID();
+
+        assertTrue(waitingRoomRegistry.enter(eventId, null).orElseThrow().admitted());
+
+        WaitingRoomRegistry.Admission queued = waitingRoomRegistry.enter(eventId, null).orElseThrow();
+        assertFalse(queued.admitted());
+
+        Thread.sleep(queued.retryAfterMillis() + 100);
+
+        assertTrue(waitingRoomRegistry.enter(eventId, queued.token()).orElseThrow().admitted());
+        assertTrue(waitingRoomRegistry.status(eventId, queued.token()).isEmpty());
+
+        // Reenviado, o token já usado não passa: o cliente recebe um novo lugar no fim da fila
+        WaitingRoomRegistry.Admission replayed = waitingRoomRegistry.enter(eventId, queued.token()).orElseThrow();
+        assertFalse(replayed.admitted());
+        assertFalse(queued.token().equals(replayed.token()));
+    }
+
+    // Com o limite atingido, a sala com clientes na fila continua lá e o evento novo é recusado
+    @Test
+    void roomsWithQueuedClientsAreNotDiscarded() {
+
+        WaitingRoomRegistry waitingRoomRegistry = new WaitingRoomRegistry(0.001, 1, Duration.ofMinutes(30), 1, "segredo");
+        UUID busyEvent = UUID.randomUUID();
+
+        assertTrue(waitingRoomRegistry.enter(busyEvent, null).orElseThrow().admitted());
+        WaitingRoomRegistry.Admission queued = waitingRoomRegistry.enter(busyEvent, null).orElseThrow();
+        assertEquals(1, queued.position());
+
+        assertTrue(waitingRoomRegistry.enter(UUID.randomUUID(), null).isEmpty());
+
+        WaitingRoomRegistry.Admission third = waitingRoomRegistry.enter(busyEvent, null).orElseThrow();
+        assertEquals(2, third.position());
+        assertEquals(1, waitingRoomRegistry.status(busyEvent, queued.token()).orElseThrow().position());
+    }
+
+    // Sala sem tokens em uso e com a rajada cheia dá lugar a um evento novo
+    @Test
+    void idleRoomGivesWayToNewEvent() throws InterruptedException {
+
+        WaitingRoomRegistry waitingRoomRegistry = new WaitingRoomRegistry(RATE_PER_SECOND, 1, Duration.ofMinutes(30), 1, "segredo");
+
+        assertTrue(waitingRoomRegistry.enter(UUID.randomUUID(), null).orElseThrow().admitted());
+
+        // Tempo para a rajada se recompor e para a próxima varredura ser permitida
+        Thread.sleep(1_100);
+
+        assertTrue(waitingRoomRegistry.enter(UUID.randomUUID(), null).orElseThrow().admitted());
+    }
+
+}
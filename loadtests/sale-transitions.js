@@ -0,0 +1,72 @@
+// Disputa de transições de status: várias requisições simultâneas tentam pagar ou cancelar a mesma venda.
+// Cada venda em aberto deve mudar de status exatamente uma vez; as demais tentativas são rejeitadas.
+// Uso: k6 run -e SALES_URL=http://localhost:4000 -e EVENT_ID=<uuid> -e USER_ID=<uuid> sale-transitions.js
+import http from 'k6/http';
+import exec from 'k6/execution';
+import { check } from 'k6';
+import { Counter } from 'k6/metrics';
+
+const SALES_URL = __ENV.SALES_URL || 'http://localhost:4000';
+const EVENT_ID = __ENV.EVENT_ID;
+const USER_ID = __ENV.USER_ID;
+const SALES = parseInt(__ENV.SALES || '200');
+const ATTEMPTS_PER_SALE = parseInt(__ENV.ATTEMPTS || '20');
+
+const transitionsApplied = new Counter('transitions_applied');
+const transitionsRejected = new Counter('transitions_rejected');
+const salesStillOpen = new Counter('sales_still_open');
+
+const JSON_HEADERS = { headers: { 'Content-Type': 'application/json' } };
+
+export const options = {
+    scenarios: {
+        contention: {
+            executor: 'shared-iterations',
+            vus: 200,
+            iterations: SALES * ATTEMPTS_PER_SALE,
+            maxDuration: '5m',
+        },
+    },
+    thresholds: {
+        // Exatamente uma transição vencedora por venda: nenhuma atualização perdida ou duplicada
+        'transitions_applied': [`count==${SALES}`],
+        'sales_still_open': ['count==0'],
+    },
+};
+
+export function setup() {
+
+    const body = JSON.stringify(Array.from({ length: SALES }, () => ({ userId: USER_ID, eventId: EVENT_ID })));
+    const response = http.post(`${SALES_URL}/sales/batch`, body, JSON_HEADERS);
+
+    check(response, { 'sales created': (r) => r.status === 200 });
+
+    return { saleIds: response.json().filter((result) => result.sale).map((result) => result.sale.id) };
+}
+
+export default function (data) {
+
+    const iteration = exec.scenario.iterationInTest;
+    const saleId = data.saleIds[iteration % data.saleIds.length];
+    const status = iteration % 2 === 0 ? 'PAGO' : 'CANCELADO';
+
+    const response = http.put(`${SALES_URL}/sales/${saleId}`, JSON.stringify({ status }), JSON_HEADERS);
+
+    if (response.status === 200) {
+        transitionsApplied.add(1);
+    } else {
+        transitionsRejected.add(1);
+    }
+}
+
+export function teardown(data) {
+
+    for (const saleId of data.saleIds) {
+
+        const sale = http.get(`${SALES_URL}/sales/${saleId}`).json();
+
+        if (sale.status === 'EM_ABERTO') {
+            salesStillOpen.add(1);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+// Compara latência p99 com threads de plataforma e com o perfil virtual-threads.
+// Uso: k6 run -e SALES_URL=http://localhost:4000 -e USERS_URL=http://localhost:3000 -e USER_ID=<uuid> virtual-threads.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const SALES_URL = __ENV.SALES_URL || 'http://localhost:4000';
+const USERS_URL = __ENV.USERS_URL || 'http://localhost:3000';
+const USER_ID = __ENV.USER_ID;
+
+export const options = {
+    scenarios: {
+        burst: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: 5000 },
+                { duration: '2m', target: 5000 },
+                { duration: '15s', target: 0 },
+            ],
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    thresholds: {
+        'http_req_failed': ['rate<0.01'],
+        'http_req_duration{endpoint:sales}': ['p(99)<1000'],
+        'http_req_duration{endpoint:events}': ['p(99)<1000'],
+        'http_req_duration{endpoint:users}': ['p(99)<1000'],
+    },
+};
+
+export default function () {
+
+    const responses = http.batch([
+        ['GET', `${SALES_URL}/sales?limit=20`, null, { tags: { endpoint: 'sales' } }],
+        ['GET', `${SALES_URL}/events?limit=20`, null, { tags: { endpoint: 'events' } }],
+        ['GET', USER_ID ? `${USERS_URL}/users/${USER_ID}` : `${USERS_URL}/users/status`, null, { tags: { endpoint: 'users' } }],
+    ]);
+
+    responses.forEach((response) => check(response, { 'status 2xx': (r) => r.status >= 200 && r.status < 300 }));
+}
@@ -0,0 +1,61 @@
+package br.edu.ufop.web.notifications.business.channels;
+
+import br.edu.ufop.web.notifications.controller.dtos.SaleNotificationDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+// Grava cada notificação como uma linha JSON (NDJSON) em um arquivo local; um único append por lote
+@Component
+@ConditionalOnProperty(name = "notifications.channels.file.enabled", havingValue = "true", matchIfMissing = true)
+public class FileNotificationChannel implements NotificationChannel {
+
+    private final ObjectMapper objectMapper;
+    private final Path path;
+
+    public FileNotificationChannel(ObjectMapper objectMapper,
+                                   @Value("${notifications.channels.file.path:notifications.ndjson}") Path path) {
+
+        this.objectMapper = objectMapper;
+        this.path = path;
+    }
+
+    @Override
+    public String name() {
+        return "file";
+    }
+
+    @Override
+    public synchronized void send(List<SaleNotificationDTO> notifications) {
+
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+
+            try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+
+                for (SaleNotificationDTO notification : notifications) {
+                    writer.write(objectMapper.writeValueAsString(notification));
+                    writer.newLine();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write notifications to " + path, e);
+        }
+    }
+
+}
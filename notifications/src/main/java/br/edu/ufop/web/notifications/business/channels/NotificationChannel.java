@@ -0,0 +1,17 @@
+package br.edu.ufop.web.notifications.business.channels;
+
+import br.edu.ufop.web.notifications.controller.dtos.SaleNotificationDTO;
+
+import java.util.List;
+
+/**
+ * Destino das notificações de vendas (arquivo, e-mail, push...). Todo bean que implementa esta interface
+ * recebe cada lote já sem repetições; uma exceção faz o lote inteiro ser reenviado pelo sales-service.
+ */
+public interface NotificationChannel {
+
+    String name();
+
+    void send(List<SaleNotificationDTO> notifications);
+
+}
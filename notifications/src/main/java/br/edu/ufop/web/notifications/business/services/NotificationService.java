@@ -0,0 +1,91 @@
+package br.edu.ufop.web.notifications.business.services;
+
+import br.edu.ufop.web.notifications.business.channels.NotificationChannel;
+import br.edu.ufop.web.notifications.controller.dtos.SaleNotificationDTO;
+import br.edu.ufop.web.notifications.infrastructure.entities.ReceivedNotificationEntity;
+import br.edu.ufop.web.notifications.infrastructure.repositories.IReceivedNotificationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Recebe os lotes do outbox do sales-service, descarta os ids já entregues e repassa o restante a todos os
+ * {@link NotificationChannel}. Os ids são gravados na mesma transação da entrega: se um canal falhar, nada
+ * é registrado e o lote volta no próximo envio do relay.
+ */
+@Slf4j
+@Service
+public class NotificationService {
+
+    private final IReceivedNotificationRepository receivedRepository;
+    private final List<NotificationChannel> channels;
+    private final MeterRegistry meterRegistry;
+    private final Duration retention;
+
+    public NotificationService(IReceivedNotificationRepository receivedRepository,
+                               List<NotificationChannel> channels,
+                               MeterRegistry meterRegistry,
+                               @Value("${notifications.dedup.retention:P7D}") Duration retention) {
+
+        this.receivedRepository = receivedRepository;
+        this.channels = channels;
+        this.meterRegistry = meterRegistry;
+        this.retention = retention;
+
+        log.info("Notification channels: {}", channels.stream().map(NotificationChannel::name).toList());
+    }
+
+    @Transactional
+    public int publish(List<SaleNotificationDTO> notifications) {
+
+        List<Long> ids = notifications.stream()
+                .map(SaleNotificationDTO::getId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        // Ids já recebidos e os repetidos dentro do próprio lote ficam de fora: cada id é inserido uma única vez
+        Set<Long> seen = new HashSet<>(receivedRepository.findReceivedIds(ids));
+
+        List<SaleNotificationDTO> pending = notifications.stream()
+                .filter(notification -> notification.getId() != null && seen.add(notification.getId()))
+                .toList();
+
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        // Um lote repetido em paralelo viola a chave primária e é desfeito por inteiro
+        receivedRepository.saveAllAndFlush(pending.stream()
+                .map(notification -> ReceivedNotificationEntity.builder().id(notification.getId()).build())
+                .toList());
+
+        for (NotificationChannel channel : channels) {
+            channel.send(pending);
+            meterRegistry.counter("notifications.delivered", "channel", channel.name()).increment(pending.size());
+        }
+
+        return pending.size();
+    }
+
+    @Scheduled(fixedDelayString = "${notifications.dedup.cleanup-interval:PT1H}")
+    public void cleanup() {
+
+        int removed = receivedRepository.deleteReceivedBefore(LocalDateTime.now().minus(retention));
+
+        if (removed > 0) {
+            log.info("Removed {} expired notification ids", removed);
+        }
+    }
+
+}
@@ -0,0 +1,26 @@
+package br.edu.ufop.web.notifications.controller;
+
+import br.edu.ufop.web.notifications.business.services.NotificationService;
+import br.edu.ufop.web.notifications.controller.dtos.SaleNotificationDTO;
+import lombok.AllArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/notifications")
+@AllArgsConstructor
+public class NotificationController {
+
+    private final NotificationService notificationService;
+
+    // Chamado pelo relay do outbox do sales-service; entregas repetidas são ignoradas
+    @PostMapping("/batch")
+    public ResponseEntity<Void> publish(@RequestBody List<SaleNotificationDTO> notifications) {
+
+        notificationService.publish(notifications);
+        return ResponseEntity.noContent().build();
+    }
+
+}
@@ -0,0 +1,27 @@
+package br.edu.ufop.web.notifications.controller.dtos;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Mudança de status de uma venda publicada pelo outbox do sales-service.
+// previousStatus nulo indica venda criada; status nulo indica venda removida
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SaleNotificationDTO {
+
+    // Id do registro no outbox de origem, usado para descartar entregas repetidas
+    private Long id;
+
+    private UUID saleId;
+    private UUID eventId;
+
+    private String previousStatus;
+    private String status;
+
+    private LocalDateTime occurredAt;
+
+}
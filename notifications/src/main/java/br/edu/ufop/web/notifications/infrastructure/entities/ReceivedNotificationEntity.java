@@ -0,0 +1,37 @@
+package br.edu.ufop.web.notifications.infrastructure.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+// Ids do outbox já entregues aos canais; o relay do sales-service reenvia lotes cuja confirmação se perdeu.
+// Persistable com isNew() sempre verdadeiro: save() faz persist (sem o SELECT do merge), e um id gravado
+// em paralelo viola a chave primária em vez de virar um UPDATE
+@Entity
+@Table(name = "tb_received_notifications")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReceivedNotificationEntity implements Persistable<Long> {
+
+    @Id
+    private Long id;
+
+    private LocalDateTime receivedAt;
+
+    // Os registros nunca são alterados depois de gravados
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+
+    @PrePersist
+    public void beforeSave() {
+        this.receivedAt = LocalDateTime.now();
+    }
+
+}
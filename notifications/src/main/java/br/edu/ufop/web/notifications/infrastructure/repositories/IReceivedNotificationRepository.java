@@ -0,0 +1,24 @@
+package br.edu.ufop.web.notifications.infrastructure.repositories;
+
+import br.edu.ufop.web.notifications.infrastructure.entities.ReceivedNotificationEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Set;
+
+public interface IReceivedNotificationRepository extends JpaRepository<ReceivedNotificationEntity, Long> {
+
+    @Query("SELECT r.id FROM ReceivedNotificationEntity r WHERE r.id IN :ids")
+    Set<Long> findReceivedIds(@Param("ids") Collection<Long> ids);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ReceivedNotificationEntity r WHERE r.receivedAt < :receivedAt")
+    int deleteReceivedBefore(@Param("receivedAt") LocalDateTime receivedAt);
+
+}
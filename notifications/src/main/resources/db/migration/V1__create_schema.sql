@@ -0,0 +1,10 @@
+-- Esquema do notifications-service. IF NOT EXISTS: bancos criados pelo antigo ddl-auto=update entram pelo
+-- baseline (versão 0) e passam por esta migração sem alterações
+
+CREATE TABLE IF NOT EXISTS tb_received_notifications (
+    id          bigint NOT NULL,
+    received_at timestamp(6),
+    CONSTRAINT tb_received_notifications_pkey PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_received_notifications_received_at ON tb_received_notifications (received_at);
@@ -0,0 +1,54 @@
+package br.edu.ufop.web.notifications.business.channels;
+
+import br.edu.ufop.web.notifications.controller.dtos.SaleNotificationDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FileNotificationChannelTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void appendsOneLinePerNotification() throws Exception {
+
+        Path path = directory.resolve("out/notifications.ndjson");
+        FileNotificationChannel channel = new FileNotificationChannel(objectMapper, path);
+
+        channel.send(List.of(notification(1L, null, "EM_ABERTO"), notification(2L, "EM_ABERTO", "PAGO")));
+        channel.send(List.of(notification(3L, "PAGO", "ESTORNADO")));
+
+        List<String> lines = Files.readAllLines(path);
+        assertEquals(3, lines.size());
+
+        SaleNotificationDTO last = objectMapper.readValue(lines.get(2), SaleNotificationDTO.class);
+        assertEquals(3L, last.getId());
+        assertEquals("PAGO", last.getPreviousStatus());
+        assertEquals("ESTORNADO", last.getStatus());
+    }
+
+    private static SaleNotificationDTO notification(Long id, String previousStatus, String status) {
+
+        return SaleNotificationDTO.builder()
+                .id(id)
+                .saleId(UUID.randomUUID())
+                .eventId(UUID.randomUUID())
+                .previousStatus(previousStatus)
+                .status(status)
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+
+}
@@ -0,0 +1,63 @@
+package br.edu.ufop.web.sales.business.cache;
+
+import br.edu.ufop.web.sales.infrastructure.entities.EventEntity;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Cache limitado por tamanho e tempo de vida dos eventos consultados na criação de vendas.
+ * As entidades guardadas estão desanexadas do contexto de persistência e não devem ser alteradas.
+ */
+@Component
+public class EventCache {
+
+    private final Cache<UUID, EventEntity> cache;
+
+    public EventCache(@Value("${sales.event-cache.maximum-size:10000}") long maximumSize,
+                      @Value("${sales.event-cache.expire-after-write:PT5M}") Duration expireAfterWrite,
+                      MeterRegistry meterRegistry) {
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "events");
+    }
+
+    // Eventos inexistentes não são armazenados: a consulta seguinte volta ao banco
+    public Optional<EventEntity> get(UUID id, Function<UUID, Optional<EventEntity>> loader) {
+        return Optional.ofNullable(cache.get(id, key -> loader.apply(key).orElse(null)));
+    }
+
+    public Map<UUID, EventEntity> getAll(Collection<UUID> ids, Function<Set<UUID>, Map<UUID, EventEntity>> loader) {
+        return cache.getAll(ids, missingIds -> loader.apply(Set.copyOf(missingIds)));
+    }
+
+    public void invalidate(UUID id) {
+        cache.invalidate(id);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+}
@@ -0,0 +1,72 @@
+package br.edu.ufop.web.sales.business.converters;
+
+import br.edu.ufop.web.sales.controller.dtos.pages.CursorPageDTO;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class CursorConverter {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+
+    private static final String SEPARATOR = "|";
+
+    // timestamp é a coluna de ordenação da consulta (createdAt nas listagens, dateTime no catálogo filtrado)
+    public record Cursor(LocalDateTime timestamp, UUID id) {
+    }
+
+    public static int resolveLimit(Integer limit) {
+
+        if (limit == null || limit <= 0) {
+            return DEFAULT_LIMIT;
+        }
+
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    public static String encode(LocalDateTime timestamp, UUID id) {
+
+        String raw = timestamp + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Cursor decode(String cursor) {
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new Cursor(LocalDateTime.parse(raw.substring(0, separator)), UUID.fromString(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new RuntimeException("Invalid cursor.");
+        }
+    }
+
+    // As consultas buscam limit + 1 linhas: a linha extra apenas indica que existe uma próxima página
+    public static <E, D> CursorPageDTO<D> toPage(List<E> rows, int limit, Function<E, D> mapper,
+                                                 Function<E, LocalDateTime> timestamp, Function<E, UUID> id) {
+
+        boolean hasNext = rows.size() > limit;
+        List<E> pageRows = hasNext ? rows.subList(0, limit) : rows;
+
+        String next = null;
+
+        if (hasNext) {
+            E last = pageRows.get(pageRows.size() - 1);
+            next = encode(timestamp.apply(last), id.apply(last));
+        }
+
+        return CursorPageDTO.<D>builder()
+                .items(pageRows.stream().map(mapper).toList())
+                .next(next)
+                .build();
+    }
+
+}
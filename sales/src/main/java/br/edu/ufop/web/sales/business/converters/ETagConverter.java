@@ -0,0 +1,42 @@
+package br.edu.ufop.web.sales.business.converters;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.StringJoiner;
+
+// ETags fortes montados a partir do updatedAt (precisão de microssegundos do Postgres) de cada registro da resposta
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ETagConverter {
+
+    private static final String SEPARATOR = "-";
+
+    public static String of(LocalDateTime... versions) {
+
+        StringJoiner joiner = new StringJoiner(SEPARATOR, "\"", "\"");
+
+        for (LocalDateTime version : versions) {
+            joiner.add(encode(version));
+        }
+
+        return joiner.toString();
+    }
+
+    // Versão de uma listagem: inclusões e alterações mudam o maior updatedAt; remoções mudam a contagem
+    public static String ofCatalog(long count, LocalDateTime lastUpdate) {
+        return "\"c" + Long.toString(count, 36) + SEPARATOR + encode(lastUpdate) + "\"";
+    }
+
+    private static String encode(LocalDateTime version) {
+
+        if (version == null) {
+            return "0";
+        }
+
+        long micros = version.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + version.getNano() / 1_000;
+        return Long.toString(micros, 36);
+    }
+
+}
@@ -20,6 +20,7 @@ public class EventConverter {
                 .startingSales(eventEntity.getStartingSales())
                 .endingSales(eventEntity.getEndingSales())
                 .price(eventEntity.getPrice())
+                .capacity(eventEntity.getCapacity())
                 .createdAt(eventEntity.getCreatedAt())
                 .updatedAt(eventEntity.getUpdatedAt())
                 .build();
@@ -34,6 +35,8 @@ public class EventConverter {
                 .startingSales(createEventDTO.getStartingSales())
                 .endingSales(createEventDTO.getEndingSales())
                 .price(createEventDTO.getPrice())
+                .capacity(createEventDTO.getCapacity())
+                .availableTickets(createEventDTO.getCapacity())
                 .build();
     }
 
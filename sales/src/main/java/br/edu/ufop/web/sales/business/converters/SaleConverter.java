@@ -1,9 +1,11 @@
 package br.edu.ufop.web.sales.business.converters;
 
+import br.edu.ufop.web.sales.controller.dtos.events.EventDTO;
 import br.edu.ufop.web.sales.controller.dtos.sales.CreateSaleDTO;
 import br.edu.ufop.web.sales.controller.dtos.sales.SaleDTO;
 import br.edu.ufop.web.sales.infrastructure.entities.EventEntity;
 import br.edu.ufop.web.sales.infrastructure.entities.SaleEntity;
+import br.edu.ufop.web.sales.infrastructure.repositories.projections.SaleRowProjection;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
@@ -22,6 +24,29 @@ public class SaleConverter {
                 .build();
     }
 
+    public static SaleDTO toDTO(SaleRowProjection saleRow) {
+        return SaleDTO.builder()
+                .id(saleRow.id())
+                .userId(saleRow.userId())
+                .event(EventDTO.builder()
+                        .id(saleRow.eventId())
+                        .description(saleRow.eventDescription())
+                        .type(saleRow.eventType())
+                        .dateTime(saleRow.eventDateTime())
+                        .startingSales(saleRow.eventStartingSales())
+                        .endingSales(saleRow.eventEndingSales())
+                        .price(saleRow.eventPrice())
+                        .capacity(saleRow.eventCapacity())
+                        .createdAt(saleRow.eventCreatedAt())
+                        .updatedAt(saleRow.eventUpdatedAt())
+                        .build())
+                .dateTime(saleRow.dateTime())
+                .status(saleRow.status())
+                .createdAt(saleRow.createdAt())
+                .updatedAt(saleRow.updatedAt())
+                .build();
+    }
+
     public static SaleEntity toEntity(CreateSaleDTO createSaleDTO) {
         return SaleEntity.builder()
                 .userId(createSaleDTO.getUserId())
@@ -0,0 +1,18 @@
+package br.edu.ufop.web.sales.business.events;
+
+import br.edu.ufop.web.sales.enums.EnumSaleStatus;
+
+import java.util.UUID;
+
+// previousStatus nulo indica venda criada; status nulo indica venda removida
+public record SaleStatusChangedEvent(UUID saleId, UUID eventId, EnumSaleStatus previousStatus, EnumSaleStatus status) {
+
+    public static SaleStatusChangedEvent created(UUID saleId, UUID eventId, EnumSaleStatus status) {
+        return new SaleStatusChangedEvent(saleId, eventId, null, status);
+    }
+
+    public static SaleStatusChangedEvent deleted(UUID saleId, UUID eventId, EnumSaleStatus status) {
+        return new SaleStatusChangedEvent(saleId, eventId, status, null);
+    }
+
+}
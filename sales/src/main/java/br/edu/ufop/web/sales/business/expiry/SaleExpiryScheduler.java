@@ -0,0 +1,141 @@
+package br.edu.ufop.web.sales.business.expiry;
+
+import br.edu.ufop.web.sales.business.events.SaleStatusChangedEvent;
+import br.edu.ufop.web.sales.enums.EnumSaleStatus;
+import br.edu.ufop.web.sales.infrastructure.repositories.ISaleRepository;
+import br.edu.ufop.web.sales.infrastructure.repositories.projections.SaleDeadlineProjection;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Cancela as vendas que continuam em aberto após o prazo de pagamento (sales.expiry.payment-timeout).
+ * Os prazos vivem em uma {@link TimerWheel}; a cada tick as vendas vencidas são canceladas em lotes,
+ * com um SELECT ... FOR UPDATE e um único UPDATE por lote. Na inicialização os prazos são reconstruídos
+ * a partir de tb_sales.createdAt.
+ */
+@Slf4j
+@Component
+public class SaleExpiryScheduler {
+
+    private final ISaleRepository saleRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    private final Duration paymentTimeout;
+    private final Duration tick;
+    private final int batchSize;
+
+    private final TimerWheel<UUID> wheel;
+    private final Counter expiredCounter;
+
+    public SaleExpiryScheduler(ISaleRepository saleRepository,
+                               ApplicationEventPublisher eventPublisher,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry,
+                               @Value("${sales.expiry.payment-timeout:PT15M}") Duration paymentTimeout,
+                               @Value("${sales.expiry.tick:PT1S}") Duration tick,
+                               @Value("${sales.expiry.wheel-size:4096}") int wheelSize,
+                               @Value("${sales.expiry.batch-size:500}") int batchSize) {
+
+        this.saleRepository = saleRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+
+        this.paymentTimeout = paymentTimeout;
+        this.tick = tick;
+        this.batchSize = batchSize;
+
+        this.wheel = new TimerWheel<>(tick, wheelSize);
+        this.expiredCounter = Counter.builder("sales.expiry.expired").register(meterRegistry);
+
+        Gauge.builder("sales.expiry.pending", wheel, TimerWheel::size).register(meterRegistry);
+    }
+
+    // Vendas já vencidas durante a parada do serviço são canceladas no primeiro tick
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+
+        readOnlyTransactionTemplate.executeWithoutResult(status -> {
+            try (Stream<SaleDeadlineProjection> openSales = saleRepository.streamByStatus(EnumSaleStatus.EM_ABERTO)) {
+                openSales.forEach(sale -> wheel.schedule(sale.getId(), toMillis(sale.getCreatedAt().plus(paymentTimeout))));
+            }
+        });
+
+        log.info("Payment deadlines rebuilt for {} open sales", wheel.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSaleCommit(SaleStatusChangedEvent event) {
+
+        if (event.previousStatus() == null && event.status() == EnumSaleStatus.EM_ABERTO) {
+            wheel.schedule(event.saleId(), System.currentTimeMillis() + paymentTimeout.toMillis());
+        } else if (event.previousStatus() == EnumSaleStatus.EM_ABERTO) {
+            wheel.cancel(event.saleId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${sales.expiry.tick:PT1S}")
+    public void expire() {
+
+        List<UUID> expired = wheel.advance(System.currentTimeMillis());
+
+        for (int from = 0; from < expired.size(); from += batchSize) {
+
+            List<UUID> batch = expired.subList(from, Math.min(from + batchSize, expired.size()));
+
+            try {
+                Integer cancelled = transactionTemplate.execute(status -> cancel(batch));
+                expiredCounter.increment(cancelled == null ? 0 : cancelled);
+            } catch (RuntimeException e) {
+                // O lote volta para a roda e é tentado novamente no próximo tick
+                log.warn("Could not cancel {} expired sales: {}", batch.size(), e.getMessage());
+                batch.forEach(saleId -> wheel.schedule(saleId, System.currentTimeMillis() + tick.toMillis()));
+            }
+        }
+    }
+
+    private int cancel(List<UUID> saleIds) {
+
+        List<SaleDeadlineProjection> openSales = saleRepository.lockByIdInAndStatus(saleIds, EnumSaleStatus.EM_ABERTO);
+
+        if (openSales.isEmpty()) {
+            return 0;
+        }
+
+        saleRepository.updateStatusByIds(openSales.stream().map(SaleDeadlineProjection::getId).toList(),
+                EnumSaleStatus.CANCELADO, LocalDateTime.now());
+
+        // Estoque e estatísticas são atualizados pelos listeners após o commit
+        openSales.forEach(sale -> eventPublisher.publishEvent(
+                new SaleStatusChangedEvent(sale.getId(), sale.getEventId(), EnumSaleStatus.EM_ABERTO, EnumSaleStatus.CANCELADO)));
+
+        return openSales.size();
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+}
@@ -0,0 +1,148 @@
+package br.edu.ufop.web.sales.business.expiry;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Roda de temporização (hashed timer wheel): cada prazo cai no balde do seu tick, módulo o tamanho da roda.
+ * Inclusão e cancelamento são O(1) e podem ser feitos por qualquer thread. Os baldes e o tick corrente só são
+ * tocados por {@link #advance(long)}, que roda sob um lock: o @Scheduled pode chamá-lo a cada tick de uma thread
+ * diferente (SimpleAsyncTaskScheduler com threads virtuais) e o lock também publica o estado entre elas.
+ * O cancelamento é preguiçoso: a chave sai do índice de prazos e a entrada que ficou no balde é descartada
+ * quando o balde for percorrido.
+ */
+public class TimerWheel<K> {
+
+    private final long tickMillis;
+    private final List<Queue<K>> buckets;
+
+    // Tick do prazo de cada chave pendente
+    private final Map<K, Long> deadlines = new ConcurrentHashMap<>();
+
+    // Chaves agendadas desde o último avanço, distribuídas nos baldes pela thread da roda
+    private final Queue<K> scheduled = new ConcurrentLinkedQueue<>();
+
+    // Guarda buckets e currentTick; ReentrantLock em vez de synchronized para não prender threads virtuais
+    private final ReentrantLock advanceLock = new ReentrantLock();
+
+    private long currentTick = -1;
+
+    public TimerWheel(Duration tick, int wheelSize) {
+
+        this.tickMillis = tick.toMillis();
+        this.buckets = new ArrayList<>(wheelSize);
+
+        for (int index = 0; index < wheelSize; index++) {
+            buckets.add(new ArrayDeque<>());
+        }
+    }
+
+    // Reagendar uma chave substitui o prazo anterior
+    public void schedule(K key, long deadlineMillis) {
+
+        deadlines.put(key, Math.floorDiv(deadlineMillis, tickMillis));
+        scheduled.offer(key);
+    }
+
+    public void cancel(K key) {
+        deadlines.remove(key);
+    }
+
+    public int size() {
+        return deadlines.size();
+    }
+
+    // Devolve as chaves cujo prazo venceu até nowMillis
+    public List<K> advance(long nowMillis) {
+
+        advanceLock.lock();
+
+        try {
+            return advanceLocked(Math.floorDiv(nowMillis, tickMillis));
+        } finally {
+            advanceLock.unlock();
+        }
+    }
+
+    private List<K> advanceLocked(long nowTick) {
+
+        // Um avanço atrasado, que chega depois de outro com relógio maior, não volta a roda
+        if (nowTick < currentTick) {
+            nowTick = currentTick;
+        }
+
+        List<K> expired = new ArrayList<>();
+
+        K key;
+
+        while ((key = scheduled.poll()) != null) {
+
+            Long tick = deadlines.get(key);
+
+            if (tick == null) {
+                continue;
+            }
+
+            if (tick <= nowTick) {
+                expire(key, tick, expired);
+            } else {
+                bucketOf(tick).offer(key);
+            }
+        }
+
+        // Após uma pausa maior que a roda, cada balde é percorrido uma única vez
+        long firstTick = currentTick < 0 ? nowTick : Math.max(currentTick + 1, nowTick - buckets.size() + 1);
+
+        for (long tick = firstTick; tick <= nowTick; tick++) {
+            drain(bucketOf(tick), nowTick, expired);
+        }
+
+        currentTick = nowTick;
+        return expired;
+    }
+
+    private void drain(Queue<K> bucket, long nowTick, List<K> expired) {
+
+        Iterator<K> iterator = bucket.iterator();
+
+        while (iterator.hasNext()) {
+
+            K key = iterator.next();
+            Long tick = deadlines.get(key);
+
+            // Cancelada, ou reagendada para outro balde
+            if (tick == null || bucketOf(tick) != bucket) {
+                iterator.remove();
+                continue;
+            }
+
+            // Prazo de uma volta futura da roda
+            if (tick > nowTick) {
+                continue;
+            }
+
+            iterator.remove();
+            expire(key, tick, expired);
+        }
+    }
+
+    private void expire(K key, long tick, List<K> expired) {
+
+        if (deadlines.remove(key, tick)) {
+            expired.add(key);
+        }
+    }
+
+    private Queue<K> bucketOf(long tick) {
+        return buckets.get((int) Math.floorMod(tick, (long) buckets.size()));
+    }
+
+}
@@ -0,0 +1,173 @@
+package br.edu.ufop.web.sales.business.idempotency;
+
+import br.edu.ufop.web.sales.controller.dtos.sales.CreateSaleDTO;
+import br.edu.ufop.web.sales.controller.dtos.sales.SaleDTO;
+import br.edu.ufop.web.sales.infrastructure.entities.SaleIdempotencyKeyEntity;
+import br.edu.ufop.web.sales.infrastructure.repositories.ISaleIdempotencyKeyRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * Idempotência de POST /sales pelo cabeçalho Idempotency-Key.
+ * A primeira requisição com uma chave executa a criação; duplicatas simultâneas na mesma instância aguardam
+ * o mesmo resultado em memória (cache limitado com TTL) e retentativas posteriores leem a resposta gravada
+ * em tb_sale_idempotency_keys. Entre instâncias, a chave primária da tabela garante uma única venda.
+ */
+@Slf4j
+@Component
+public class SaleIdempotencyStore {
+
+    public static final int MAX_KEY_LENGTH = 255;
+
+    private final ISaleIdempotencyKeyRepository repository;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, CompletableFuture<Result>> inFlight;
+    private final Duration waitTimeout;
+    private final Duration retention;
+
+    private record Result(String requestHash, SaleDTO sale) {
+    }
+
+    public SaleIdempotencyStore(ISaleIdempotencyKeyRepository repository,
+                                ObjectMapper objectMapper,
+                                @Value("${sales.idempotency.cache.maximum-size:100000}") long maximumSize,
+                                @Value("${sales.idempotency.cache.expire-after-write:PT10M}") Duration cacheTtl,
+                                @Value("${sales.idempotency.wait-timeout:PT10S}") Duration waitTimeout,
+                                @Value("${sales.idempotency.retention:P1D}") Duration retention) {
+
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.waitTimeout = waitTimeout;
+        this.retention = retention;
+        this.inFlight = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(cacheTtl)
+                .build();
+    }
+
+    // action recebe o hash da requisição e deve criar a venda chamando record() na mesma transação
+    public SaleDTO execute(String key, CreateSaleDTO request, Function<String, SaleDTO> action) {
+
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new RuntimeException("Idempotency-Key must have at most " + MAX_KEY_LENGTH + " characters.");
+        }
+
+        String requestHash = hash(request);
+        CompletableFuture<Result> future = new CompletableFuture<>();
+        CompletableFuture<Result> existing = inFlight.asMap().putIfAbsent(key, future);
+
+        if (existing != null) {
+            return verify(await(existing), requestHash);
+        }
+
+        try {
+            Result result = find(key).orElseGet(() -> create(key, requestHash, action));
+            future.complete(result);
+            return verify(result, requestHash);
+        } catch (RuntimeException e) {
+            // Falhas não são memorizadas: a próxima retentativa executa a criação novamente
+            inFlight.asMap().remove(key, future);
+            future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public void record(String key, String requestHash, SaleDTO sale) {
+
+        try {
+            repository.saveAndFlush(SaleIdempotencyKeyEntity.builder()
+                    .key(key)
+                    .requestHash(requestHash)
+                    .saleId(sale.getId())
+                    .response(objectMapper.writeValueAsString(sale))
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Could not store the idempotent response.", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${sales.idempotency.cleanup-interval:PT1H}")
+    public void cleanup() {
+
+        int deleted = repository.deleteCreatedBefore(LocalDateTime.now().minus(retention));
+
+        if (deleted > 0) {
+            log.info("Removed {} expired idempotency keys", deleted);
+        }
+    }
+
+    private Result create(String key, String requestHash, Function<String, SaleDTO> action) {
+
+        try {
+            return new Result(requestHash, action.apply(requestHash));
+        } catch (DataIntegrityViolationException e) {
+            // Outra instância gravou a mesma chave primeiro; a venda desta transação foi desfeita
+            return find(key).orElseThrow(() -> e);
+        }
+    }
+
+    private Optional<Result> find(String key) {
+
+        return repository.findById(key).map(entity -> {
+            try {
+                return new Result(entity.getRequestHash(), objectMapper.readValue(entity.getResponse(), SaleDTO.class));
+            } catch (JsonProcessingException e) {
+                throw new RuntimeException("Could not read the idempotent response.", e);
+            }
+        });
+    }
+
+    private Result await(CompletableFuture<Result> future) {
+
+        try {
+            return future.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for the original request.");
+        } catch (TimeoutException e) {
+            throw new RuntimeException("The original request with this Idempotency-Key is still in progress.");
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException runtimeException ? runtimeException : new RuntimeException(e.getCause());
+        }
+    }
+
+    private SaleDTO verify(Result result, String requestHash) {
+
+        if (!result.requestHash().equals(requestHash)) {
+            throw new RuntimeException("Idempotency-Key was already used with a different request.");
+        }
+
+        return result.sale();
+    }
+
+    private String hash(CreateSaleDTO request) {
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(objectMapper.writeValueAsString(request).getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new RuntimeException("Could not hash the request.", e);
+        }
+    }
+
+}
@@ -0,0 +1,139 @@
+package br.edu.ufop.web.sales.business.inventory;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Estoque de ingressos de um evento dividido em faixas (stripes) atômicas.
+ * Cada thread decrementa preferencialmente a própria faixa e só percorre as demais quando ela se esgota,
+ * evitando que todas as reservas de um evento concorrido disputem o mesmo contador.
+ * Eventos sem limite também contam as reservas, a partir de {@link #UNLIMITED_CAPACITY}: assim a troca entre
+ * ter e não ter limite é um ajuste no próprio saldo e as reservas ainda não confirmadas continuam descontadas.
+ */
+public class StripedQuota {
+
+    // Cada faixa ocupa uma linha de cache inteira (64 bytes) para evitar false sharing
+    private static final int PADDING = 16;
+
+    // Saldo inicial de um evento sem limite: nunca se esgota e a soma das faixas não estoura um int
+    static final int UNLIMITED_CAPACITY = Integer.MAX_VALUE / 2;
+
+    private final AtomicIntegerArray cells;
+    private final int stripes;
+    private volatile boolean unlimited;
+
+    public StripedQuota(int stripes, int available) {
+        this(stripes, available, false);
+    }
+
+    private StripedQuota(int stripes, int available, boolean unlimited) {
+
+        this.stripes = Integer.highestOneBit(Math.max(1, stripes));
+        this.cells = new AtomicIntegerArray(this.stripes * PADDING);
+        this.unlimited = unlimited;
+
+        int share = available / this.stripes;
+        int remainder = available % this.stripes;
+
+        for (int stripe = 0; stripe < this.stripes; stripe++) {
+            cells.set(stripe * PADDING, share + (stripe < remainder ? 1 : 0));
+        }
+    }
+
+    // held: ingressos já ocupados pelas vendas do evento
+    public static StripedQuota unlimited(int stripes, int held) {
+        return new StripedQuota(stripes, UNLIMITED_CAPACITY - held, true);
+    }
+
+    public boolean isUnlimited() {
+        return unlimited;
+    }
+
+    public boolean tryAcquire() {
+
+        int home = homeStripe();
+
+        for (int offset = 0; offset < stripes; offset++) {
+
+            int index = ((home + offset) & (stripes - 1)) * PADDING;
+            int current;
+
+            while ((current = cells.get(index)) > 0) {
+                if (cells.compareAndSet(index, current, current - 1)) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    public void release() {
+
+        // Uma redução de capacidade pode deixar a primeira faixa negativa; ela é quitada antes das demais
+        int index = cells.get(0) < 0 ? 0 : homeStripe() * PADDING;
+        cells.incrementAndGet(index);
+    }
+
+    // Troca a capacidade no lugar (nula = sem limite): o saldo muda pela diferença entre as capacidades
+    public void changeCapacity(Integer previousCapacity, Integer capacity) {
+
+        int previous = previousCapacity == null ? UNLIMITED_CAPACITY : previousCapacity;
+        int next = capacity == null ? UNLIMITED_CAPACITY : capacity;
+
+        adjust(next - previous);
+        unlimited = capacity == null;
+    }
+
+    public void adjust(int delta) {
+
+        if (delta == 0) {
+            return;
+        }
+
+        if (delta > 0) {
+            cells.addAndGet(0, delta);
+            return;
+        }
+
+        int missing = -delta;
+
+        for (int stripe = 0; stripe < stripes && missing > 0; stripe++) {
+
+            int index = stripe * PADDING;
+            int current;
+
+            while ((current = cells.get(index)) > 0 && missing > 0) {
+                int taken = Math.min(current, missing);
+                if (cells.compareAndSet(index, current, current - taken)) {
+                    missing -= taken;
+                }
+            }
+        }
+
+        if (missing > 0) {
+            cells.addAndGet(0, -missing);
+        }
+    }
+
+    public int available() {
+
+        if (unlimited) {
+            return Integer.MAX_VALUE;
+        }
+
+        int total = 0;
+
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            total += cells.get(stripe * PADDING);
+        }
+
+        return Math.max(0, total);
+    }
+
+    // Sorteada a cada operação pelo gerador da própria thread: espalha as threads sem depender do id da thread
+    private int homeStripe() {
+        return ThreadLocalRandom.current().nextInt() & (stripes - 1);
+    }
+
+}
@@ -0,0 +1,194 @@
+package br.edu.ufop.web.sales.business.inventory;
+
+import br.edu.ufop.web.sales.business.events.SaleStatusChangedEvent;
+import br.edu.ufop.web.sales.enums.EnumSaleStatus;
+import br.edu.ufop.web.sales.infrastructure.repositories.IEventRepository;
+import br.edu.ufop.web.sales.infrastructure.repositories.ISaleRepository;
+import br.edu.ufop.web.sales.infrastructure.repositories.projections.EventCapacityProjection;
+import br.edu.ufop.web.sales.infrastructure.repositories.projections.EventSalesCountProjection;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Controle em memória dos ingressos disponíveis por evento.
+ * As reservas não travam linhas no banco: o saldo vive em {@link StripedQuota} e é gravado em tb_events
+ * periodicamente. Na inicialização o saldo é reconstruído a partir das vendas em tb_sales.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TicketInventory {
+
+    private static final List<EnumSaleStatus> HOLDING_STATUSES = Arrays.stream(EnumSaleStatus.values())
+            .filter(EnumSaleStatus::holdsTicket)
+            .toList();
+
+    private static final int STRIPES = Runtime.getRuntime().availableProcessors() * 2;
+
+    private final IEventRepository eventRepository;
+    private final ISaleRepository saleRepository;
+
+    private final Map<UUID, StripedQuota> quotas = new ConcurrentHashMap<>();
+    private final Set<UUID> pendingFlush = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    public void load() {
+
+        Map<UUID, Long> held = saleRepository.countByEventAndStatusIn(HOLDING_STATUSES).stream()
+                .collect(Collectors.toMap(EventSalesCountProjection::getEventId, EventSalesCountProjection::getTotal));
+
+        for (EventCapacityProjection event : eventRepository.findAllCapacities()) {
+            long available = event.getCapacity() - held.getOrDefault(event.getId(), 0L);
+            quotas.put(event.getId(), new StripedQuota(STRIPES, (int) Math.max(0, available)));
+            pendingFlush.add(event.getId());
+        }
+
+        log.info("Ticket inventory loaded for {} events", quotas.size());
+    }
+
+    public boolean reserve(UUID eventId) {
+
+        StripedQuota quota = quotaOf(eventId);
+
+        if (!quota.tryAcquire()) {
+            return false;
+        }
+
+        markDirty(eventId, quota);
+        return true;
+    }
+
+    public void release(UUID eventId) {
+
+        StripedQuota quota = quotas.get(eventId);
+
+        if (quota == null) {
+            return;
+        }
+
+        quota.release();
+        markDirty(eventId, quota);
+    }
+
+    public int available(UUID eventId) {
+        return quotaOf(eventId).available();
+    }
+
+    public void register(UUID eventId, Integer capacity) {
+
+        StripedQuota quota = capacity == null ? StripedQuota.unlimited(STRIPES, 0) : new StripedQuota(STRIPES, capacity);
+        quotas.put(eventId, quota);
+    }
+
+    // Chamado depois de gravar a nova capacidade. O saldo em memória é ajustado no lugar, sem recarregar:
+    // reservas já feitas e ainda não confirmadas em tb_sales continuam descontadas
+    public void changeCapacity(UUID eventId, Integer previousCapacity, Integer capacity) {
+
+        StripedQuota quota = quotas.get(eventId);
+
+        if (quota == null) {
+            // Ainda não carregado: a carga já lê a capacidade nova
+            quotaOf(eventId);
+        } else {
+            quota.changeCapacity(previousCapacity, capacity);
+        }
+
+        // Marcado mesmo sem limite: o flush grava available_tickets nulo
+        pendingFlush.add(eventId);
+    }
+
+    public void evict(UUID eventId) {
+
+        quotas.remove(eventId);
+        pendingFlush.remove(eventId);
+    }
+
+    // A reserva é feita antes do insert; se a transação da venda falhar o ingresso volta ao estoque
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void onSaleRollback(SaleStatusChangedEvent event) {
+
+        if (event.previousStatus() == null && event.status() != null && event.status().holdsTicket()) {
+            release(event.eventId());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSaleCommit(SaleStatusChangedEvent event) {
+
+        boolean heldBefore = event.previousStatus() != null && event.previousStatus().holdsTicket();
+        boolean holdsNow = event.status() != null && event.status().holdsTicket();
+
+        if (heldBefore && !holdsNow) {
+            release(event.eventId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${sales.inventory.flush-interval:PT1S}")
+    @PreDestroy
+    public void flush() {
+
+        for (UUID eventId : pendingFlush) {
+
+            pendingFlush.remove(eventId);
+            StripedQuota quota = quotas.get(eventId);
+
+            if (quota != null) {
+                eventRepository.updateAvailableTickets(eventId, quota.isUnlimited() ? null : quota.available());
+            }
+        }
+    }
+
+    // As consultas rodam fora do mapa: um compute bloquearia as outras chaves do mesmo bin enquanto o banco responde.
+    // Se duas threads carregarem o mesmo evento, a primeira a publicar vence e a outra carga é descartada
+    private StripedQuota quotaOf(UUID eventId) {
+
+        StripedQuota quota = quotas.get(eventId);
+
+        if (quota != null) {
+            return quota;
+        }
+
+        StripedQuota loaded = loadQuota(eventId);
+        StripedQuota existing = quotas.putIfAbsent(eventId, loaded);
+
+        return existing != null ? existing : loaded;
+    }
+
+    // Eventos criados por outra instância ou após a carga inicial são recuperados sob demanda
+    private StripedQuota loadQuota(UUID eventId) {
+
+        Integer capacity = eventRepository.findCapacityById(eventId)
+                .map(EventCapacityProjection::getCapacity)
+                .orElse(null);
+
+        int held = (int) saleRepository.countByEventIdAndStatusIn(eventId, HOLDING_STATUSES);
+
+        if (capacity == null) {
+            return StripedQuota.unlimited(STRIPES, held);
+        }
+
+        return new StripedQuota(STRIPES, Math.max(0, capacity - held));
+    }
+
+    private void markDirty(UUID eventId, StripedQuota quota) {
+
+        if (!quota.isUnlimited()) {
+            pendingFlush.add(eventId);
+        }
+    }
+
+}
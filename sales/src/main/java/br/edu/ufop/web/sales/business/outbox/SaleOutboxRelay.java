@@ -0,0 +1,122 @@
+package br.edu.ufop.web.sales.business.outbox;
+
+import br.edu.ufop.web.sales.business.services.clients.NotificationServiceClient;
+import br.edu.ufop.web.sales.business.services.clients.dtos.SaleNotificationDTO;
+import br.edu.ufop.web.sales.infrastructure.entities.SaleOutboxEntity;
+import br.edu.ufop.web.sales.infrastructure.repositories.ISaleOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Drena tb_sale_outbox em lotes e entrega cada lote ao notifications-service em uma única chamada.
+ * Uma transação curta reserva o lote (FOR UPDATE SKIP LOCKED e um lease em leased_until) e confirma; a chamada
+ * HTTP acontece sem travas nem conexão presas, e uma segunda transação remove os registros entregues.
+ * Em caso de falha o lease é desfeito e o lote volta na próxima execução; se o processo cair no meio, o lease
+ * vence sozinho. A entrega é pelo menos uma vez: o notifications-service descarta repetições pelo id do registro.
+ */
+@Slf4j
+@Component
+public class SaleOutboxRelay {
+
+    private final ISaleOutboxRepository outboxRepository;
+    private final NotificationServiceClient notificationClient;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration lease;
+
+    private final Counter relayedCounter;
+    private final Counter failureCounter;
+
+    public SaleOutboxRelay(ISaleOutboxRepository outboxRepository,
+                           NotificationServiceClient notificationClient,
+                           PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry,
+                           @Value("${sales.outbox.batch-size:200}") int batchSize,
+                           @Value("${sales.outbox.lease:PT30S}") Duration lease) {
+
+        this.outboxRepository = outboxRepository;
+        this.notificationClient = notificationClient;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.lease = lease;
+
+        this.relayedCounter = Counter.builder("sales.outbox.relayed").register(meterRegistry);
+        this.failureCounter = Counter.builder("sales.outbox.failures").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${sales.outbox.relay-interval:PT1S}")
+    public void relay() {
+
+        try {
+            int relayed;
+
+            // Lotes cheios indicam fila acumulada: continua drenando sem esperar o próximo intervalo
+            do {
+                relayed = relayBatch();
+                relayedCounter.increment(relayed);
+            } while (relayed == batchSize);
+
+        } catch (RuntimeException e) {
+            failureCounter.increment();
+            log.warn("Could not relay sale notifications: {}", e.getMessage());
+        }
+    }
+
+    private int relayBatch() {
+
+        List<SaleOutboxEntity> batch = transactionTemplate.execute(status -> claimBatch());
+
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> ids = batch.stream().map(SaleOutboxEntity::getId).toList();
+
+        try {
+            notificationClient.publish(batch.stream().map(SaleOutboxRelay::toNotification).toList());
+        } catch (RuntimeException e) {
+            // Devolve o lote sem esperar o lease vencer
+            transactionTemplate.executeWithoutResult(status -> outboxRepository.lease(ids, null));
+            throw e;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> outboxRepository.deleteAllByIdInBatch(ids));
+
+        return batch.size();
+    }
+
+    private List<SaleOutboxEntity> claimBatch() {
+
+        LocalDateTime now = LocalDateTime.now();
+        List<SaleOutboxEntity> batch = outboxRepository.lockNextBatch(now, batchSize);
+
+        if (!batch.isEmpty()) {
+            outboxRepository.lease(batch.stream().map(SaleOutboxEntity::getId).toList(), now.plus(lease));
+        }
+
+        return batch;
+    }
+
+    private static SaleNotificationDTO toNotification(SaleOutboxEntity entity) {
+
+        return SaleNotificationDTO.builder()
+                .id(entity.getId())
+                .saleId(entity.getSaleId())
+                .eventId(entity.getEventId())
+                .previousStatus(entity.getPreviousStatus())
+                .status(entity.getStatus())
+                .occurredAt(entity.getCreatedAt())
+                .build();
+    }
+
+}
@@ -0,0 +1,29 @@
+package br.edu.ufop.web.sales.business.outbox;
+
+import br.edu.ufop.web.sales.business.events.SaleStatusChangedEvent;
+import br.edu.ufop.web.sales.infrastructure.entities.SaleOutboxEntity;
+import br.edu.ufop.web.sales.infrastructure.repositories.ISaleOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// BEFORE_COMMIT ainda roda dentro da transação da venda: o registro no outbox é gravado (ou desfeito) junto com ela
+@Component
+@RequiredArgsConstructor
+public class SaleOutboxWriter {
+
+    private final ISaleOutboxRepository outboxRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onSaleStatusChanged(SaleStatusChangedEvent event) {
+
+        outboxRepository.save(SaleOutboxEntity.builder()
+                .saleId(event.saleId())
+                .eventId(event.eventId())
+                .previousStatus(event.previousStatus())
+                .status(event.status())
+                .build());
+    }
+
+}
@@ -1,48 +1,186 @@
 package br.edu.ufop.web.sales.business.services;
 
+import br.edu.ufop.web.sales.business.cache.EventCache;
+import br.edu.ufop.web.sales.business.converters.CursorConverter;
+import br.edu.ufop.web.sales.business.converters.ETagConverter;
 import br.edu.ufop.web.sales.business.converters.EventConverter;
+import br.edu.ufop.web.sales.business.inventory.TicketInventory;
+import br.edu.ufop.web.sales.business.stats.EventSalesStats;
+import br.edu.ufop.web.sales.controller.dtos.cache.CacheStatsDTO;
 import br.edu.ufop.web.sales.controller.dtos.events.CreateEventDTO;
 import br.edu.ufop.web.sales.controller.dtos.events.EventDTO;
+import br.edu.ufop.web.sales.controller.dtos.events.EventFilterDTO;
 import br.edu.ufop.web.sales.controller.dtos.events.UpdateEventDTO;
+import br.edu.ufop.web.sales.controller.dtos.pages.CursorPageDTO;
 import br.edu.ufop.web.sales.enums.EnumEventType;
 import br.edu.ufop.web.sales.infrastructure.entities.EventEntity;
 import br.edu.ufop.web.sales.infrastructure.repositories.IEventRepository;
+import br.edu.ufop.web.sales.infrastructure.repositories.projections.CatalogVersionProjection;
+import br.edu.ufop.web.sales.infrastructure.repositories.specifications.EventSpecifications;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class EventService {
 
     private final IEventRepository eventRepository;
+    private final EntityManager entityManager;
+    private final TicketInventory ticketInventory;
+    private final EventCache eventCache;
+    private final EventSalesStats eventSalesStats;
 
-    public List<EventDTO> getAll() {
+    public CursorPageDTO<EventDTO> getPage(String cursor, Integer limit, EventFilterDTO filter) {
 
-        List<EventEntity> eventEntityList = eventRepository.findAll();
-        return eventEntityList.stream().map(EventConverter::toDTO).toList();
+        int pageLimit = CursorConverter.resolveLimit(limit);
+
+        if (filter != null && !filter.isEmpty()) {
+            return getFilteredPage(cursor, pageLimit, filter);
+        }
+
+        List<EventEntity> eventEntityList;
+
+        if (cursor == null || cursor.isBlank()) {
+            eventEntityList = eventRepository.findFirstPage(Limit.of(pageLimit + 1));
+        } else {
+            CursorConverter.Cursor position = CursorConverter.decode(cursor);
+            eventEntityList = eventRepository.findPageAfter(position.timestamp(), position.id(), Limit.of(pageLimit + 1));
+        }
+
+        return CursorConverter.toPage(eventEntityList, pageLimit, EventConverter::toDTO,
+                EventEntity::getCreatedAt, EventEntity::getId);
+    }
+
+    // Versão atual do catálogo, consultada antes da página para responder 304 sem carregar os eventos.
+    // O filtro onSale depende do horário da consulta e não tem versão: retorna null
+    public String getCatalogETag(EventFilterDTO filter) {
+
+        if (filter != null && Boolean.TRUE.equals(filter.getOnSale())) {
+            return null;
+        }
+
+        CatalogVersionProjection version = eventRepository.findCatalogVersion();
+        return ETagConverter.ofCatalog(version.getTotal(), version.getLastUpdate());
+    }
+
+    // Consultas filtradas são ordenadas pela data do evento (dateTime, id); eventos sem data não entram no catálogo filtrado
+    private CursorPageDTO<EventDTO> getFilteredPage(String cursor, int pageLimit, EventFilterDTO filter) {
+
+        Specification<EventEntity> specification = EventSpecifications.hasDateTime();
+
+        if (filter.getType() != null) {
+
+            EnumEventType type = EnumEventType.getById(filter.getType());
+
+            if (type == null) {
+                throw new RuntimeException("Invalid event type.");
+            }
+
+            specification = specification.and(EventSpecifications.hasType(type));
+        }
+
+        if (filter.getFrom() != null) {
+            specification = specification.and(EventSpecifications.dateTimeFrom(filter.getFrom()));
+        }
+
+        if (filter.getTo() != null) {
+            specification = specification.and(EventSpecifications.dateTimeBefore(filter.getTo()));
+        }
+
+        if (Boolean.TRUE.equals(filter.getOnSale())) {
+            specification = specification.and(EventSpecifications.onSaleAt(LocalDateTime.now()));
+        }
+
+        if (cursor != null && !cursor.isBlank()) {
+            CursorConverter.Cursor position = CursorConverter.decode(cursor);
+            specification = specification.and(EventSpecifications.after(position.timestamp(), position.id()));
+        }
+
+        List<EventEntity> eventEntityList = eventRepository.findBy(specification, query -> query
+                .sortBy(Sort.by("dateTime", "id"))
+                .limit(pageLimit + 1)
+                .all());
+
+        return CursorConverter.toPage(eventEntityList, pageLimit, EventConverter::toDTO,
+                EventEntity::getDateTime, EventEntity::getId);
+    }
+
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<EventDTO> consumer) {
+
+        try (Stream<EventEntity> eventEntityStream = eventRepository.streamAll()) {
+            eventEntityStream.forEach(eventEntity -> {
+                consumer.accept(EventConverter.toDTO(eventEntity));
+                entityManager.detach(eventEntity);
+            });
+        }
     }
 
     public EventDTO create(CreateEventDTO createEventDTO) {
 
         EventEntity eventEntity = EventConverter.toEntity(createEventDTO);
         eventEntity = eventRepository.save(eventEntity);
+
+        ticketInventory.register(eventEntity.getId(), eventEntity.getCapacity());
         return EventConverter.toDTO(eventEntity);
     }
 
+    @Timed(value = "events.service", histogram = true)
     public Optional<EventEntity> getById(UUID id) {
-        return eventRepository.findById(id);
+        return eventCache.get(id, eventRepository::findById);
     }
 
+    public Map<UUID, EventEntity> getAllByIds(Collection<UUID> ids) {
+
+        return eventCache.getAll(ids, missingIds -> eventRepository.findAllById(missingIds).stream()
+                .collect(Collectors.toMap(EventEntity::getId, Function.identity())));
+    }
+
+    // A chamada interna a getById não passa pelo proxy do @Timed; por isso este método é medido à parte
+    @Timed(value = "events.service", histogram = true)
     public EventDTO getByIdDTO(UUID id) {
 
-        EventEntity eventEntity = eventRepository.findById(id).orElseThrow(() -> new RuntimeException("Event not found"));
+        EventEntity eventEntity = getById(id).orElseThrow(() -> new RuntimeException("Event not found"));
         return EventConverter.toDTO(eventEntity);
     }
 
+    // Lê apenas o updatedAt do evento, sem passar pelo cache: um evento alterado por outra instância invalida o ETag
+    public Optional<String> getETag(UUID id) {
+        return eventRepository.findUpdatedAtById(id).map(ETagConverter::of);
+    }
+
+    public CacheStatsDTO getCacheStats() {
+
+        CacheStats cacheStats = eventCache.stats();
+
+        return CacheStatsDTO.builder()
+                .size(eventCache.size())
+                .hits(cacheStats.hitCount())
+                .misses(cacheStats.missCount())
+                .hitRate(cacheStats.hitRate())
+                .evictions(cacheStats.evictionCount())
+                .build();
+    }
+
     public EventDTO update(UUID id, UpdateEventDTO dto) {
 
         EventEntity eventEntity = eventRepository.findById(id).orElseThrow(() -> new RuntimeException("Event not found"));
@@ -53,7 +191,17 @@ public class EventService {
         eventEntity.setStartingSales(dto.getStartingSales());
         eventEntity.setEndingSales(dto.getEndingSales());
         eventEntity.setPrice(dto.getPrice());
+
+        Integer previousCapacity = eventEntity.getCapacity();
+        Integer capacity = dto.isCapacitySent() ? dto.getCapacity() : previousCapacity;
+        eventEntity.setCapacity(capacity);
+
         eventEntity = eventRepository.save(eventEntity);
+        eventCache.invalidate(id);
+
+        if (!Objects.equals(previousCapacity, capacity)) {
+            ticketInventory.changeCapacity(id, previousCapacity, capacity);
+        }
 
         return EventConverter.toDTO(eventEntity);
     }
@@ -62,6 +210,9 @@ public class EventService {
 
         EventEntity eventEntity = eventRepository.findById(id).orElseThrow(() -> new RuntimeException("Event not found"));
         eventRepository.delete(eventEntity);
+        eventCache.invalidate(id);
+        ticketInventory.evict(id);
+        eventSalesStats.evict(id);
     }
 
 }
\ No newline at end of file
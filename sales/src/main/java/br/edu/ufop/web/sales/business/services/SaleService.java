@@ -1,34 +1,136 @@
 package br.edu.ufop.web.sales.business.services;
 
+import br.edu.ufop.web.sales.business.converters.CursorConverter;
+import br.edu.ufop.web.sales.business.converters.ETagConverter;
 import br.edu.ufop.web.sales.business.converters.SaleConverter;
+import br.edu.ufop.web.sales.business.events.SaleStatusChangedEvent;
+import br.edu.ufop.web.sales.business.idempotency.SaleIdempotencyStore;
+import br.edu.ufop.web.sales.business.inventory.TicketInventory;
+import br.edu.ufop.web.sales.business.services.clients.UserBatchLoader;
+import br.edu.ufop.web.sales.business.services.clients.dtos.UserServiceDTO;
+import br.edu.ufop.web.sales.controller.dtos.pages.CursorPageDTO;
+import br.edu.ufop.web.sales.controller.dtos.sales.BatchSaleResultDTO;
 import br.edu.ufop.web.sales.controller.dtos.sales.CreateSaleDTO;
 import br.edu.ufop.web.sales.controller.dtos.sales.SaleDTO;
+import br.edu.ufop.web.sales.controller.dtos.sales.SaleFilterDTO;
 import br.edu.ufop.web.sales.controller.dtos.sales.UpdateSaleDTO;
 import br.edu.ufop.web.sales.enums.EnumSaleStatus;
 import br.edu.ufop.web.sales.infrastructure.entities.EventEntity;
 import br.edu.ufop.web.sales.infrastructure.entities.SaleEntity;
 import br.edu.ufop.web.sales.infrastructure.repositories.ISaleRepository;
-import jakarta.transaction.Transactional;
+import br.edu.ufop.web.sales.infrastructure.repositories.projections.SaleRowProjection;
+import br.edu.ufop.web.sales.infrastructure.repositories.projections.SaleStatusProjection;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class SaleService {
 
+    public static final int MAX_BATCH_SIZE = 1000;
+    private static final int MAX_TRANSITION_ATTEMPTS = 3;
+
     private final ISaleRepository saleRepository;
     private final EventService eventService;
+    private final TicketInventory ticketInventory;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SaleIdempotencyStore idempotencyStore;
+    private final TransactionTemplate transactionTemplate;
+    private final UserBatchLoader userBatchLoader;
+
+    public CursorPageDTO<SaleDTO> getPage(String cursor, Integer limit, SaleFilterDTO filter) {
+
+        int pageLimit = CursorConverter.resolveLimit(limit);
+
+        if (filter != null && !filter.isEmpty()) {
+            return getFilteredPage(cursor, pageLimit, filter);
+        }
+
+        List<SaleRowProjection> saleRowList;
+
+        if (cursor == null || cursor.isBlank()) {
+            saleRowList = saleRepository.findFirstPage(Limit.of(pageLimit + 1));
+        } else {
+            CursorConverter.Cursor position = CursorConverter.decode(cursor);
+            saleRowList = saleRepository.findPageAfter(position.timestamp(), position.id(), Limit.of(pageLimit + 1));
+        }
+
+        return withUsers(CursorConverter.toPage(saleRowList, pageLimit, SaleConverter::toDTO,
+                SaleRowProjection::createdAt, SaleRowProjection::id));
+    }
+
+    // Listagens filtradas ("meus ingressos", vendas de um evento) são ordenadas pela data da venda (dateTime, id)
+    private CursorPageDTO<SaleDTO> getFilteredPage(String cursor, int pageLimit, SaleFilterDTO filter) {
+
+        List<SaleRowProjection> saleRowList;
+
+        if (cursor == null || cursor.isBlank()) {
+            saleRowList = saleRepository.findFilteredPage(filter, null, null, pageLimit + 1);
+        } else {
+            CursorConverter.Cursor position = CursorConverter.decode(cursor);
+            saleRowList = saleRepository.findFilteredPage(filter, position.timestamp(), position.id(), pageLimit + 1);
+        }
+
+        return withUsers(CursorConverter.toPage(saleRowList, pageLimit, SaleConverter::toDTO,
+                SaleRowProjection::dateTime, SaleRowProjection::id));
+    }
+
+    // Os compradores da página saem em um único POST /users/batch (ou do near-cache), em vez de uma consulta por venda.
+    // Se o users-service falhar, a página sai com os userId, sem os usuários
+    private CursorPageDTO<SaleDTO> withUsers(CursorPageDTO<SaleDTO> page) {
+
+        Set<UUID> userIds = page.getItems().stream()
+                .map(SaleDTO::getUserId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
 
-    public List<SaleDTO> getAll() {
+        if (userIds.isEmpty()) {
+            return page;
+        }
+
+        Map<UUID, UserServiceDTO> users;
 
-        List<SaleEntity> saleEntityList = saleRepository.findAll();
-        return saleEntityList.stream().map(SaleConverter::toDTO).toList();
+        try {
+            users = userBatchLoader.getByIds(userIds);
+        } catch (RuntimeException e) {
+            log.warn("Sale page returned without users: {}", e.getMessage());
+            return page;
+        }
+
+        page.getItems().forEach(saleDTO -> saleDTO.setUser(users.get(saleDTO.getUserId())));
+        return page;
     }
 
+    // Percorre toda a tabela por um cursor JDBC; as linhas são projeções, nada fica no contexto de persistência
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<SaleDTO> consumer) {
+
+        try (Stream<SaleRowProjection> saleRowStream = saleRepository.streamAll()) {
+            saleRowStream.forEach(saleRow -> consumer.accept(SaleConverter.toDTO(saleRow)));
+        }
+    }
+
+    @Timed(value = "sales.service", histogram = true)
     @Transactional
     public SaleDTO create(CreateSaleDTO createSaleDTO) {
 
@@ -42,39 +144,145 @@ public class SaleService {
 
         saleEntity.setEvent(eventEntityOptional.get());
 
-        saleRepository.save(saleEntity);
+        if (!ticketInventory.reserve(createSaleDTO.getEventId())) {
+            throw new RuntimeException("Event is sold out.");
+        }
+
+        try {
+            saleRepository.save(saleEntity);
+        } catch (RuntimeException e) {
+            ticketInventory.release(createSaleDTO.getEventId());
+            throw e;
+        }
+
+        eventPublisher.publishEvent(SaleStatusChangedEvent.created(saleEntity.getId(), createSaleDTO.getEventId(), saleEntity.getStatus()));
         return SaleConverter.toDTO(saleEntity);
 
     }
 
+    // Retentativas com a mesma Idempotency-Key devolvem a venda original sem reservar ou inserir de novo.
+    // A chave é gravada na transação da venda: se a gravação falhar, a venda e a reserva são desfeitas
+    public SaleDTO createIdempotent(CreateSaleDTO createSaleDTO, String idempotencyKey) {
+
+        return idempotencyStore.execute(idempotencyKey, createSaleDTO, requestHash -> transactionTemplate.execute(status -> {
+
+            SaleDTO saleDTO = create(createSaleDTO);
+            idempotencyStore.record(idempotencyKey, requestHash, saleDTO);
+
+            return saleDTO;
+        }));
+    }
+
+    // Cada evento é consultado uma única vez e os inserts saem em lotes JDBC (hibernate.jdbc.batch_size)
+    @Transactional
+    public List<BatchSaleResultDTO> createBatch(List<CreateSaleDTO> createSaleDTOList) {
+
+        if (createSaleDTOList.size() > MAX_BATCH_SIZE) {
+            throw new RuntimeException("Batch size exceeds the limit of " + MAX_BATCH_SIZE + " sales.");
+        }
+
+        Map<UUID, EventEntity> eventEntityMap = eventService.getAllByIds(createSaleDTOList.stream()
+                .map(CreateSaleDTO::getEventId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList());
+
+        BatchSaleResultDTO[] results = new BatchSaleResultDTO[createSaleDTOList.size()];
+        List<SaleEntity> saleEntityList = new ArrayList<>(createSaleDTOList.size());
+        List<Integer> saleIndexes = new ArrayList<>(createSaleDTOList.size());
+
+        for (int index = 0; index < createSaleDTOList.size(); index++) {
+
+            CreateSaleDTO createSaleDTO = createSaleDTOList.get(index);
+            EventEntity eventEntity = eventEntityMap.get(createSaleDTO.getEventId());
+
+            if (eventEntity == null) {
+                results[index] = BatchSaleResultDTO.builder().index(index).error("Event does not exists.").build();
+                continue;
+            }
+
+            if (!ticketInventory.reserve(eventEntity.getId())) {
+                results[index] = BatchSaleResultDTO.builder().index(index).error("Event is sold out.").build();
+                continue;
+            }
+
+            SaleEntity saleEntity = SaleConverter.toEntity(createSaleDTO);
+            saleEntity.setEvent(eventEntity);
+
+            saleEntityList.add(saleEntity);
+            saleIndexes.add(index);
+        }
+
+        try {
+            saleRepository.saveAll(saleEntityList);
+        } catch (RuntimeException e) {
+            saleEntityList.forEach(saleEntity -> ticketInventory.release(saleEntity.getEvent().getId()));
+            throw e;
+        }
+
+        for (int position = 0; position < saleEntityList.size(); position++) {
+
+            SaleEntity saleEntity = saleEntityList.get(position);
+            int index = saleIndexes.get(position);
+
+            eventPublisher.publishEvent(SaleStatusChangedEvent.created(saleEntity.getId(), saleEntity.getEvent().getId(), saleEntity.getStatus()));
+            results[index] = BatchSaleResultDTO.builder().index(index).sale(SaleConverter.toDTO(saleEntity)).build();
+        }
+
+        return Arrays.asList(results);
+    }
+
     public SaleDTO getById(UUID id) {
 
-        SaleEntity saleEntity = saleRepository.findById(id).orElseThrow(() -> new RuntimeException("Sale not found."));
-        return SaleConverter.toDTO(saleEntity);
+        SaleRowProjection saleRow = saleRepository.findRowById(id).orElseThrow(() -> new RuntimeException("Sale not found."));
+        return SaleConverter.toDTO(saleRow);
     }
 
+    public Optional<String> getETag(UUID id) {
+
+        return saleRepository.findVersionById(id)
+                .map(version -> ETagConverter.of(version.getUpdatedAt(), version.getEventUpdatedAt()));
+    }
+
+    // A transição é um UPDATE condicional ao status lido, sem carregar a entidade; se outra transação mudar o status
+    // entre a leitura e o UPDATE, o status é relido e a transição, revalidada
+    @Timed(value = "sales.service", histogram = true)
     @Transactional
     public SaleDTO update(UUID id, UpdateSaleDTO dto) {
 
-        SaleEntity saleEntity = saleRepository.findById(id).orElseThrow(() -> new RuntimeException("Sale not found."));
-
         if (dto.getStatus() != null) {
+            changeStatus(id, dto.getStatus());
+        }
+
+        return getById(id);
+    }
+
+    private void changeStatus(UUID id, EnumSaleStatus status) {
+
+        for (int attempt = 0; attempt < MAX_TRANSITION_ATTEMPTS; attempt++) {
 
-            if (dto.getStatus() == EnumSaleStatus.PAGO && saleEntity.getStatus() != EnumSaleStatus.EM_ABERTO) {
+            SaleStatusProjection current = saleRepository.findStatusById(id).orElseThrow(() -> new RuntimeException("Sale not found."));
 
-                throw new RuntimeException("Only open sales can be paid.");
+            if (current.getStatus() == null || !current.getStatus().canTransitionTo(status)) {
+                throw new RuntimeException("Invalid status transition from " + current.getStatus() + " to " + status + ".");
             }
 
-            saleEntity.setStatus(dto.getStatus());
+            if (saleRepository.updateStatus(id, current.getStatus(), status, LocalDateTime.now()) == 1) {
+                eventPublisher.publishEvent(new SaleStatusChangedEvent(id, current.getEventId(), current.getStatus(), status));
+                return;
+            }
         }
 
-        return SaleConverter.toDTO(saleEntity);
+        throw new RuntimeException("Sale status changed concurrently, try again.");
     }
 
+    @Transactional
     public void delete(UUID id) {
 
         SaleEntity saleEntity = saleRepository.findById(id).orElseThrow(() -> new RuntimeException("Sale not found"));
         saleRepository.delete(saleEntity);
+
+        eventPublisher.publishEvent(SaleStatusChangedEvent.deleted(id, saleEntity.getEvent().getId(), saleEntity.getStatus()));
     }
 
 }
\ No newline at end of file
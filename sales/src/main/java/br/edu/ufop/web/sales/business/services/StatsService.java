@@ -0,0 +1,40 @@
+package br.edu.ufop.web.sales.business.services;
+
+import br.edu.ufop.web.sales.business.stats.EventSalesStats;
+import br.edu.ufop.web.sales.controller.dtos.stats.EventSalesStatsDTO;
+import br.edu.ufop.web.sales.enums.EnumSaleStatus;
+import br.edu.ufop.web.sales.infrastructure.entities.EventEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Map;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class StatsService {
+
+    private final EventService eventService;
+    private final EventSalesStats eventSalesStats;
+
+    // Contadores em memória e preço do cache de eventos: nenhuma consulta a tb_sales
+    public EventSalesStatsDTO getEventStats(UUID eventId) {
+
+        EventEntity eventEntity = eventService.getById(eventId).orElseThrow(() -> new RuntimeException("Event not found"));
+
+        Map<EnumSaleStatus, Long> sales = eventSalesStats.get(eventId);
+        long paid = sales.get(EnumSaleStatus.PAGO);
+
+        BigDecimal price = eventEntity.getPrice() == null ? BigDecimal.ZERO : new BigDecimal(Float.toString(eventEntity.getPrice()));
+
+        return EventSalesStatsDTO.builder()
+                .eventId(eventId)
+                .sales(sales)
+                .ticketsSold(sales.get(EnumSaleStatus.EM_ABERTO) + paid)
+                .revenue(price.multiply(BigDecimal.valueOf(paid)).setScale(2, RoundingMode.HALF_UP))
+                .build();
+    }
+
+}
@@ -0,0 +1,16 @@
+package br.edu.ufop.web.sales.business.services.clients;
+
+import br.edu.ufop.web.sales.business.services.clients.dtos.SaleNotificationDTO;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.util.List;
+
+// Resolvido pelo Eureka (lb://notifications-service); usado apenas pelo relay do outbox
+@FeignClient(name = "notifications-service")
+public interface NotificationServiceClient {
+
+    @PostMapping("/notifications/batch")
+    public void publish(@RequestBody List<SaleNotificationDTO> notifications);
+}
@@ -0,0 +1,218 @@
+package br.edu.ufop.web.sales.business.services.clients;
+
+import br.edu.ufop.web.sales.business.services.clients.dtos.UserServiceDTO;
+import br.edu.ufop.web.sales.config.UsersClientConfig;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Agrupa as consultas de usuário por id feitas dentro de uma pequena janela de tempo em uma única chamada
+ * POST /users/batch (no estilo DataLoader). Consultas simultâneas ao mesmo id compartilham o mesmo resultado
+ * e os usuários encontrados ficam em um near-cache com TTL.
+ * A janela e a chamada rodam no usersClientExecutor, gerenciado (e encerrado) pelo Spring.
+ */
+@Slf4j
+@Component
+public class UserBatchLoader {
+
+    private final UserServiceClient userServiceClient;
+    private final TaskExecutor executor;
+    private final Cache<UUID, UserServiceDTO> nearCache;
+
+    private final Duration batchWindow;
+    private final int maxBatchSize;
+    private final Duration timeout;
+
+    private final Map<UUID, CompletableFuture<Optional<UserServiceDTO>>> inFlight = new ConcurrentHashMap<>();
+
+    private final Object lock = new Object();
+    private Map<UUID, CompletableFuture<Optional<UserServiceDTO>>> pending = new LinkedHashMap<>();
+    private boolean flushScheduled;
+
+    public UserBatchLoader(UserServiceClient userServiceClient,
+                           @Qualifier(UsersClientConfig.USERS_CLIENT_EXECUTOR) TaskExecutor executor,
+                           @Value("${sales.users-client.batch-window:PT0.005S}") Duration batchWindow,
+                           @Value("${sales.users-client.max-batch-size:100}") int maxBatchSize,
+                           @Value("${sales.users-client.timeout:PT2S}") Duration timeout,
+                           @Value("${sales.users-client.near-cache.maximum-size:10000}") long nearCacheSize,
+                           @Value("${sales.users-client.near-cache.expire-after-write:PT30S}") Duration nearCacheTtl,
+                           MeterRegistry meterRegistry) {
+
+        this.userServiceClient = userServiceClient;
+        this.executor = executor;
+        this.batchWindow = batchWindow;
+        this.maxBatchSize = maxBatchSize;
+        this.timeout = timeout;
+        this.nearCache = Caffeine.newBuilder()
+                .maximumSize(nearCacheSize)
+                .expireAfterWrite(nearCacheTtl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, nearCache, "users-near-cache");
+    }
+
+    public Optional<UserServiceDTO> getById(UUID id) {
+        return await(id, load(id));
+    }
+
+    public Map<UUID, UserServiceDTO> getByIds(Collection<UUID> ids) {
+
+        Map<UUID, CompletableFuture<Optional<UserServiceDTO>>> futures = new HashMap<>();
+
+        for (UUID id : ids) {
+            futures.computeIfAbsent(id, this::load);
+        }
+
+        Map<UUID, UserServiceDTO> users = new HashMap<>();
+        futures.forEach((id, future) -> await(id, future).ifPresent(user -> users.put(id, user)));
+
+        return users;
+    }
+
+    public CompletableFuture<Optional<UserServiceDTO>> load(UUID id) {
+
+        UserServiceDTO cached = nearCache.getIfPresent(id);
+
+        if (cached != null) {
+            return CompletableFuture.completedFuture(Optional.of(cached));
+        }
+
+        CompletableFuture<Optional<UserServiceDTO>> future = new CompletableFuture<>();
+        CompletableFuture<Optional<UserServiceDTO>> existing = inFlight.putIfAbsent(id, future);
+
+        if (existing != null) {
+            return existing;
+        }
+
+        enqueue(id, future);
+        return future;
+    }
+
+    private void enqueue(UUID id, CompletableFuture<Optional<UserServiceDTO>> future) {
+
+        Map<UUID, CompletableFuture<Optional<UserServiceDTO>>> ready = null;
+        boolean openWindow = false;
+
+        synchronized (lock) {
+
+            pending.put(id, future);
+
+            if (pending.size() >= maxBatchSize) {
+                ready = pending;
+                pending = new LinkedHashMap<>();
+            } else if (!flushScheduled) {
+                flushScheduled = true;
+                openWindow = true;
+            }
+        }
+
+        if (ready != null) {
+            Map<UUID, CompletableFuture<Optional<UserServiceDTO>>> batch = ready;
+            executor.execute(() -> dispatch(batch));
+        }
+
+        if (openWindow) {
+            executor.execute(this::flushAfterWindow);
+        }
+    }
+
+    // A própria tarefa espera a janela e faz a chamada: não há thread de timer além das do executor
+    private void flushAfterWindow() {
+
+        try {
+            TimeUnit.NANOSECONDS.sleep(batchWindow.toNanos());
+        } catch (InterruptedException e) {
+            // Executor sendo encerrado: os ids pendentes expiram pelo timeout de quem os aguarda
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        Map<UUID, CompletableFuture<Optional<UserServiceDTO>>> ready;
+
+        synchronized (lock) {
+            ready = pending;
+            pending = new LinkedHashMap<>();
+            flushScheduled = false;
+        }
+
+        if (!ready.isEmpty()) {
+            dispatch(ready);
+        }
+    }
+
+    // Cada id sai de inFlight só se ainda apontar para o futuro deste lote: após um timeout, a nova consulta
+    // do mesmo id já tem outro futuro, que não pode ser removido nem completado por este lote
+    private void dispatch(Map<UUID, CompletableFuture<Optional<UserServiceDTO>>> batch) {
+
+        Map<UUID, UserServiceDTO> users;
+
+        try {
+            users = userServiceClient.getByIds(batch.keySet()).stream()
+                    .collect(Collectors.toMap(UserServiceDTO::getId, Function.identity(), (first, second) -> first));
+        } catch (RuntimeException e) {
+            log.warn("Batched user lookup for {} ids failed: {}", batch.size(), e.getMessage());
+            batch.forEach((id, future) -> {
+                inFlight.remove(id, future);
+                future.completeExceptionally(e);
+            });
+            return;
+        }
+
+        batch.forEach((id, future) -> {
+
+            UserServiceDTO user = users.get(id);
+
+            if (user != null) {
+                nearCache.put(id, user);
+            }
+
+            inFlight.remove(id, future);
+            future.complete(Optional.ofNullable(user));
+        });
+    }
+
+    // No timeout o futuro é retirado de inFlight e encerrado: a próxima consulta do id abre um novo lote em vez de
+    // esperar por uma chamada que já passou do prazo (o read-timeout do users-service acompanha este timeout)
+    private Optional<UserServiceDTO> await(UUID id, CompletableFuture<Optional<UserServiceDTO>> future) {
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("User lookup interrupted.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                throw new RuntimeException("User service timed out.");
+            }
+            throw new RuntimeException("User service is unavailable.", e.getCause());
+        } catch (TimeoutException e) {
+            inFlight.remove(id, future);
+            future.completeExceptionally(e);
+            throw new RuntimeException("User service timed out.");
+        }
+    }
+
+}
@@ -4,11 +4,15 @@ import br.edu.ufop.web.sales.business.services.clients.dtos.UserServiceDTO;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
-@FeignClient(name = "users-service", url = "http://localhost:3000")
+// Resolvido pelo Eureka (lb://users-service)
+@FeignClient(name = "users-service")
 public interface UserServiceClient {
 
     @GetMapping("/users")
@@ -16,4 +20,7 @@ public interface UserServiceClient {
 
     @GetMapping("/users/{id}")
     public UserServiceDTO getById(@PathVariable(value = "id") UUID id);
-}
\ No newline at end of file
+
+    @PostMapping("/users/batch")
+    public List<UserServiceDTO> getByIds(@RequestBody Collection<UUID> ids);
+}
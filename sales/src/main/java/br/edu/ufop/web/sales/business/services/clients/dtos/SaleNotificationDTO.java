@@ -0,0 +1,30 @@
+package br.edu.ufop.web.sales.business.services.clients.dtos;
+
+import br.edu.ufop.web.sales.enums.EnumSaleStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// previousStatus nulo indica venda criada; status nulo indica venda removida
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class SaleNotificationDTO {
+
+    // Id do registro no outbox: o notifications-service descarta entregas repetidas por ele
+    private Long id;
+
+    private UUID saleId;
+    private UUID eventId;
+
+    private EnumSaleStatus previousStatus;
+    private EnumSaleStatus status;
+
+    private LocalDateTime occurredAt;
+
+}
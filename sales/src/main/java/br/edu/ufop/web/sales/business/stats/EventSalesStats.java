@@ -0,0 +1,145 @@
+package br.edu.ufop.web.sales.business.stats;
+
+import br.edu.ufop.web.sales.business.events.SaleStatusChangedEvent;
+import br.edu.ufop.web.sales.enums.EnumSaleStatus;
+import br.edu.ufop.web.sales.infrastructure.repositories.ISaleRepository;
+import br.edu.ufop.web.sales.infrastructure.repositories.projections.EventStatusCountProjection;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contadores em memória das vendas de cada evento por {@link EnumSaleStatus}.
+ * São atualizados pelas mudanças de status confirmadas (AFTER_COMMIT) e reconciliados
+ * periodicamente com tb_sales, o que corrige desvios como vendas alteradas por outra instância.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventSalesStats {
+
+    private static final EnumSaleStatus[] STATUSES = EnumSaleStatus.values();
+
+    private final ISaleRepository saleRepository;
+
+    private final Map<UUID, StatusCounters> counters = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void load() {
+
+        reconcile();
+        log.info("Sales stats loaded for {} events", counters.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSaleCommit(SaleStatusChangedEvent event) {
+
+        StatusCounters eventCounters = counters.computeIfAbsent(event.eventId(), eventId -> new StatusCounters());
+
+        if (event.previousStatus() != null) {
+            eventCounters.of(event.previousStatus()).decrement();
+        }
+
+        if (event.status() != null) {
+            eventCounters.of(event.status()).increment();
+        }
+    }
+
+    // Aplica como delta a diferença entre os totais do banco e os contadores lidos logo antes da consulta:
+    // mudanças confirmadas durante a consulta são somadas pelo listener e não se perdem na troca. Só uma mudança
+    // cujo commit cai entre essa leitura e o início da consulta pode sair contada duas vezes, até a próxima
+    // reconciliação. Eventos que sumiram do banco ficam zerados; a remoção é feita por evict
+    @Scheduled(initialDelayString = "${sales.stats.reconcile-interval:PT5M}", fixedDelayString = "${sales.stats.reconcile-interval:PT5M}")
+    public void reconcile() {
+
+        Map<UUID, long[]> before = new HashMap<>();
+        counters.forEach((eventId, eventCounters) -> before.put(eventId, eventCounters.sums()));
+
+        Map<UUID, long[]> loaded = new HashMap<>();
+
+        for (EventStatusCountProjection count : saleRepository.countByEventAndStatus()) {
+
+            if (count.getStatus() == null) {
+                continue;
+            }
+
+            loaded.computeIfAbsent(count.getEventId(), eventId -> new long[STATUSES.length])[count.getStatus().ordinal()] += count.getTotal();
+        }
+
+        Set<UUID> eventIds = new HashSet<>(before.keySet());
+        eventIds.addAll(loaded.keySet());
+
+        for (UUID eventId : eventIds) {
+
+            long[] previous = before.getOrDefault(eventId, new long[STATUSES.length]);
+            long[] current = loaded.getOrDefault(eventId, new long[STATUSES.length]);
+            StatusCounters eventCounters = counters.computeIfAbsent(eventId, id -> new StatusCounters());
+
+            for (EnumSaleStatus status : STATUSES) {
+
+                long delta = current[status.ordinal()] - previous[status.ordinal()];
+
+                if (delta != 0) {
+                    eventCounters.of(status).add(delta);
+                }
+            }
+        }
+    }
+
+    public Map<EnumSaleStatus, Long> get(UUID eventId) {
+
+        StatusCounters eventCounters = counters.get(eventId);
+        Map<EnumSaleStatus, Long> totals = new EnumMap<>(EnumSaleStatus.class);
+
+        for (EnumSaleStatus status : STATUSES) {
+            totals.put(status, eventCounters == null ? 0L : eventCounters.of(status).sum());
+        }
+
+        return totals;
+    }
+
+    public void evict(UUID eventId) {
+        counters.remove(eventId);
+    }
+
+    private static final class StatusCounters {
+
+        private final LongAdder[] adders = new LongAdder[STATUSES.length];
+
+        private StatusCounters() {
+
+            for (int index = 0; index < adders.length; index++) {
+                adders[index] = new LongAdder();
+            }
+        }
+
+        private LongAdder of(EnumSaleStatus status) {
+            return adders[status.ordinal()];
+        }
+
+        private long[] sums() {
+
+            long[] sums = new long[adders.length];
+
+            for (int index = 0; index < adders.length; index++) {
+                sums[index] = adders[index].sum();
+            }
+
+            return sums;
+        }
+    }
+
+}
@@ -0,0 +1,32 @@
+package br.edu.ufop.web.sales.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Executor das chamadas POST /users/batch feitas pelo UserBatchLoader. Fica separado do applicationTaskExecutor,
+ * que também atende os streams NDJSON longos, para que uma listagem não espere atrás deles.
+ */
+@Configuration
+public class UsersClientConfig {
+
+    public static final String USERS_CLIENT_EXECUTOR = "usersClientExecutor";
+
+    @Bean(USERS_CLIENT_EXECUTOR)
+    public ThreadPoolTaskExecutor usersClientExecutor(@Value("${sales.users-client.concurrency:4}") int concurrency,
+                                                      @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("users-client-");
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setVirtualThreads(virtualThreads);
+        // No desligamento os lotes pendentes são descartados; quem espera recebe o timeout do loader
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+
+        return executor;
+    }
+
+}
@@ -0,0 +1,71 @@
+package br.edu.ufop.web.sales.controller;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// GET condicional: o ETag atual vem de uma consulta de versão e é comparado com If-None-Match antes de carregar o corpo
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+class ConditionalResponses {
+
+    private static final String WEAK_PREFIX = "W/";
+
+    // ETag fixo para a resposta (versão de uma listagem); nulo desativa o GET condicional
+    static <T> ResponseEntity<T> of(String ifNoneMatch, String eTag, Supplier<T> body) {
+
+        if (eTag == null) {
+            return ResponseEntity.ok(body.get());
+        }
+
+        if (matches(ifNoneMatch, eTag)) {
+            return notModified(eTag);
+        }
+
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(eTag).body(body.get());
+    }
+
+    // ETag da resposta 200 calculado a partir do próprio corpo, que pode vir de um cache mais antigo que a versão consultada
+    static <T> ResponseEntity<T> of(String ifNoneMatch, Optional<String> currentETag, Supplier<T> body, Function<T, String> eTagOf) {
+
+        if (currentETag.isPresent() && matches(ifNoneMatch, currentETag.get())) {
+            return notModified(currentETag.get());
+        }
+
+        T dto = body.get();
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(eTagOf.apply(dto)).body(dto);
+    }
+
+    // If-None-Match usa comparação fraca e aceita uma lista de ETags ou "*"
+    private static boolean matches(String ifNoneMatch, String eTag) {
+
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+
+        for (String candidate : ifNoneMatch.split(",")) {
+
+            String value = candidate.trim();
+
+            if (value.startsWith(WEAK_PREFIX)) {
+                value = value.substring(WEAK_PREFIX.length());
+            }
+
+            if (value.equals("*") || value.equals(eTag)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static <T> ResponseEntity<T> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(CacheControl.noCache()).eTag(eTag).build();
+    }
+
+}
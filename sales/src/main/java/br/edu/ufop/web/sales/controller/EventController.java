@@ -1,13 +1,21 @@
 package br.edu.ufop.web.sales.controller;
 
+import br.edu.ufop.web.sales.business.converters.ETagConverter;
 import br.edu.ufop.web.sales.business.services.EventService;
+import br.edu.ufop.web.sales.controller.dtos.cache.CacheStatsDTO;
 import br.edu.ufop.web.sales.controller.dtos.events.CreateEventDTO;
 import br.edu.ufop.web.sales.controller.dtos.events.EventDTO;
+import br.edu.ufop.web.sales.controller.dtos.events.EventFilterDTO;
 import br.edu.ufop.web.sales.controller.dtos.events.UpdateEventDTO;
+import br.edu.ufop.web.sales.controller.dtos.pages.CursorPageDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import lombok.RequiredArgsConstructor;
-import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
 import java.util.UUID;
 
 @RestController
@@ -16,17 +24,36 @@ import java.util.UUID;
 public class EventController {
 
     private final EventService eventService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping
-    public ResponseEntity<List<EventDTO>> getAll() {
+    public ResponseEntity<CursorPageDTO<EventDTO>> getAll(@RequestParam(required = false) String cursor,
+                                                          @RequestParam(required = false) Integer limit,
+                                                          @ModelAttribute EventFilterDTO filter,
+                                                          @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        return ConditionalResponses.of(ifNoneMatch, eventService.getCatalogETag(filter),
+                () -> eventService.getPage(cursor, limit, filter));
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAll() {
 
-        return ResponseEntity.ok(eventService.getAll());
+        return NdjsonResponses.of(objectMapper, eventService::streamAll);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<EventDTO> getById(@PathVariable UUID id) {
+    public ResponseEntity<EventDTO> getById(@PathVariable UUID id,
+                                            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        return ConditionalResponses.of(ifNoneMatch, eventService.getETag(id), () -> eventService.getByIdDTO(id),
+                eventDTO -> ETagConverter.of(eventDTO.getUpdatedAt()));
+    }
+
+    @GetMapping("/cache/stats")
+    public ResponseEntity<CacheStatsDTO> getCacheStats() {
 
-        return ResponseEntity.ok(eventService.getByIdDTO(id));
+        return ResponseEntity.ok(eventService.getCacheStats());
     }
 
     @PostMapping
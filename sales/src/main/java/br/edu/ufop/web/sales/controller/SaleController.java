@@ -1,12 +1,20 @@
 package br.edu.ufop.web.sales.controller;
 
+import br.edu.ufop.web.sales.business.converters.ETagConverter;
 import br.edu.ufop.web.sales.business.services.SaleService;
+import br.edu.ufop.web.sales.controller.dtos.pages.CursorPageDTO;
+import br.edu.ufop.web.sales.controller.dtos.sales.BatchSaleResultDTO;
 import br.edu.ufop.web.sales.controller.dtos.sales.CreateSaleDTO;
 import br.edu.ufop.web.sales.controller.dtos.sales.SaleDTO;
+import br.edu.ufop.web.sales.controller.dtos.sales.SaleFilterDTO;
 import br.edu.ufop.web.sales.controller.dtos.sales.UpdateSaleDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.UUID;
@@ -16,23 +24,60 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class SaleController {
 
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    // Evento pelo qual o gateway liberou a criação na sala de espera; o corpo não pode trazer outro
+    public static final String EVENT_HEADER = "X-Event-Id";
+
     private final SaleService saleService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping
-    public ResponseEntity<List<SaleDTO>> getAll() {
-        return ResponseEntity.ok(saleService.getAll());
+    public ResponseEntity<CursorPageDTO<SaleDTO>> getAll(@RequestParam(required = false) String cursor,
+                                                         @RequestParam(required = false) Integer limit,
+                                                         @ModelAttribute SaleFilterDTO filter) {
+
+        return ResponseEntity.ok(saleService.getPage(cursor, limit, filter));
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAll() {
+
+        return NdjsonResponses.of(objectMapper, saleService::streamAll);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<SaleDTO> getById(@PathVariable UUID id) {
+    public ResponseEntity<SaleDTO> getById(@PathVariable UUID id,
+                                            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
 
-        return ResponseEntity.ok(saleService.getById(id));
+        return ConditionalResponses.of(ifNoneMatch, saleService.getETag(id), () -> saleService.getById(id),
+                saleDTO -> ETagConverter.of(saleDTO.getUpdatedAt(), saleDTO.getEvent().getUpdatedAt()));
     }
 
     @PostMapping
-    public ResponseEntity<SaleDTO> create(@RequestBody CreateSaleDTO createSaleDTO) {
+    public ResponseEntity<SaleDTO> create(@RequestBody CreateSaleDTO createSaleDTO,
+                                          @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+                                          @RequestHeader(value = EVENT_HEADER, required = false) UUID admittedEventId) {
+
+        if (!isAdmitted(admittedEventId, List.of(createSaleDTO))) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return ResponseEntity.ok(saleService.create(createSaleDTO));
+        }
 
-        return ResponseEntity.ok(saleService.create(createSaleDTO));
+        return ResponseEntity.ok(saleService.createIdempotent(createSaleDTO, idempotencyKey));
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<List<BatchSaleResultDTO>> createBatch(@RequestBody List<CreateSaleDTO> createSaleDTOList,
+                                                                @RequestHeader(value = EVENT_HEADER, required = false) UUID admittedEventId) {
+
+        if (!isAdmitted(admittedEventId, createSaleDTOList)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok(saleService.createBatch(createSaleDTOList));
     }
 
     @PutMapping("/{id}")
@@ -48,4 +93,11 @@ public class SaleController {
         return ResponseEntity.noContent().build();
     }
 
+    // Chamadas diretas, sem o gateway, não trazem o cabeçalho
+    private static boolean isAdmitted(UUID admittedEventId, List<CreateSaleDTO> createSaleDTOList) {
+
+        return admittedEventId == null || createSaleDTOList.stream()
+                .allMatch(createSaleDTO -> admittedEventId.equals(createSaleDTO.getEventId()));
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package br.edu.ufop.web.sales.controller;
+
+import br.edu.ufop.web.sales.business.services.StatsService;
+import br.edu.ufop.web.sales.controller.dtos.stats.EventSalesStatsDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/stats")
+@RequiredArgsConstructor
+public class StatsController {
+
+    private final StatsService statsService;
+
+    @GetMapping("/events/{eventId}")
+    public ResponseEntity<EventSalesStatsDTO> getEventStats(@PathVariable UUID eventId) {
+
+        return ResponseEntity.ok(statsService.getEventStats(eventId));
+    }
+
+}
@@ -1,14 +1,18 @@
 package br.edu.ufop.web.sales.controller;
 
+import br.edu.ufop.web.sales.business.services.clients.UserBatchLoader;
 import br.edu.ufop.web.sales.business.services.clients.UserServiceClient;
 import br.edu.ufop.web.sales.business.services.clients.dtos.UserServiceDTO;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 @RestController
 @RequiredArgsConstructor
@@ -16,10 +20,19 @@ import java.util.List;
 public class UserClientController {
 
     private final UserServiceClient userServiceClient;
+    private final UserBatchLoader userBatchLoader;
 
     @GetMapping
     public ResponseEntity<List<UserServiceDTO>> getAllUsers() {
 
         return ResponseEntity.ok(userServiceClient.getAllUsers());
     }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<UserServiceDTO> getById(@PathVariable UUID id) {
+
+        Optional<UserServiceDTO> userServiceDTOOptional = userBatchLoader.getById(id);
+
+        return userServiceDTOOptional.map(ResponseEntity::ok).orElseGet(() -> ResponseEntity.notFound().build());
+    }
 }
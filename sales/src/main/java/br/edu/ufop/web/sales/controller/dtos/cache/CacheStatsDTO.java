@@ -0,0 +1,22 @@
+package br.edu.ufop.web.sales.controller.dtos.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CacheStatsDTO {
+
+    private Long size;
+
+    private Long hits;
+    private Long misses;
+    private Double hitRate;
+
+    private Long evictions;
+
+}
@@ -26,4 +26,6 @@ public class CreateEventDTO {
 
     private Float price;
 
+    private Integer capacity;
+
 }
\ No newline at end of file
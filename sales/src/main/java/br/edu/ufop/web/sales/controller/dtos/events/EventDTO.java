@@ -26,6 +26,8 @@ public class EventDTO {
 
     private Float price;
 
+    private Integer capacity;
+
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -0,0 +1,34 @@
+package br.edu.ufop.web.sales.controller.dtos.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EventFilterDTO {
+
+    // Id do EnumEventType
+    private Integer type;
+
+    // Intervalo [from, to) sobre dateTime
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to;
+
+    // Somente eventos com o período de vendas aberto agora
+    private Boolean onSale;
+
+    public boolean isEmpty() {
+        return type == null && from == null && to == null && !Boolean.TRUE.equals(onSale);
+    }
+
+}
@@ -1,5 +1,6 @@
 package br.edu.ufop.web.sales.controller.dtos.events;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -20,4 +21,14 @@ public class UpdateEventDTO {
     private LocalDateTime endingSales;
     private String location;
     private Float price;
+    private Integer capacity;
+
+    // O Jackson só chama setCapacity quando o corpo traz o campo: ausente mantém o limite atual, null remove o limite
+    @JsonIgnore
+    private boolean capacitySent;
+
+    public void setCapacity(Integer capacity) {
+        this.capacity = capacity;
+        this.capacitySent = true;
+    }
 }
\ No newline at end of file
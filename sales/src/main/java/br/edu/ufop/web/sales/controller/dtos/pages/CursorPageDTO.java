@@ -0,0 +1,21 @@
+package br.edu.ufop.web.sales.controller.dtos.pages;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPageDTO<T> {
+
+    private List<T> items;
+
+    // Cursor opaco para a próxima página; nulo quando não há mais registros
+    private String next;
+
+}
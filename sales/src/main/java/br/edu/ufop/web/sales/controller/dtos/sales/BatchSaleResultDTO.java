@@ -0,0 +1,21 @@
+package br.edu.ufop.web.sales.controller.dtos.sales;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchSaleResultDTO {
+
+    // Posição do item na lista enviada
+    private Integer index;
+
+    private SaleDTO sale;
+
+    private String error;
+
+}
@@ -1,5 +1,6 @@
 package br.edu.ufop.web.sales.controller.dtos.sales;
 
+import br.edu.ufop.web.sales.business.services.clients.dtos.UserServiceDTO;
 import br.edu.ufop.web.sales.controller.dtos.events.EventDTO;
 import br.edu.ufop.web.sales.enums.EnumSaleStatus;
 import lombok.*;
@@ -16,6 +17,9 @@ public class SaleDTO {
     private UUID id;
     private UUID userId;
 
+    // Preenchido só nas listagens paginadas, com um único POST /users/batch por página
+    private UserServiceDTO user;
+
     private EventDTO event;
 
     private LocalDateTime dateTime;
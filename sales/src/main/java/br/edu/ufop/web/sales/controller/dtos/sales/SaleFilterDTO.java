@@ -0,0 +1,35 @@
+package br.edu.ufop.web.sales.controller.dtos.sales;
+
+import br.edu.ufop.web.sales.enums.EnumSaleStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SaleFilterDTO {
+
+    private UUID userId;
+    private UUID eventId;
+
+    private EnumSaleStatus status;
+
+    // Intervalo [from, to) sobre dateTime
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to;
+
+    public boolean isEmpty() {
+        return userId == null && eventId == null && status == null && from == null && to == null;
+    }
+
+}
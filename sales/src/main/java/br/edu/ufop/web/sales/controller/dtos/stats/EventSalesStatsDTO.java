@@ -0,0 +1,30 @@
+package br.edu.ufop.web.sales.controller.dtos.stats;
+
+import br.edu.ufop.web.sales.enums.EnumSaleStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EventSalesStatsDTO {
+
+    private UUID eventId;
+
+    // Quantidade de vendas em cada status
+    private Map<EnumSaleStatus, Long> sales;
+
+    // Vendas que ocupam ingresso (em aberto + pagas)
+    private Long ticketsSold;
+
+    // Preço atual do evento x vendas pagas
+    private BigDecimal revenue;
+
+}
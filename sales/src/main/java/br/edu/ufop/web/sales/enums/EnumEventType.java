@@ -13,12 +13,15 @@ public enum EnumEventType {
     CURSO(4, "Curso"),
     GERAL(5, "Geral/não especificado");
 
+    // values() devolve uma cópia nova do array a cada chamada
+    private static final EnumEventType[] VALUES = values();
+
     private Integer id;
     private String description;
 
     public static EnumEventType getById(Integer id) {
 
-        for(EnumEventType type : EnumEventType.values()) {
+        for(EnumEventType type : VALUES) {
             if (type.getId().equals(id)) {
                 return type;
             }
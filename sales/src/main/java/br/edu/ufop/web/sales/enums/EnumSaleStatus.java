@@ -3,6 +3,11 @@ package br.edu.ufop.web.sales.enums;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
 @AllArgsConstructor
 @Getter
 public enum EnumSaleStatus {
@@ -15,4 +20,20 @@ public enum EnumSaleStatus {
     private Integer id;
     private String description;
 
+    // Transições permitidas: aberta -> paga ou cancelada; paga -> estornada. Cancelada e estornada são finais
+    private static final Map<EnumSaleStatus, Set<EnumSaleStatus>> TRANSITIONS = new EnumMap<>(Map.of(
+            EM_ABERTO, EnumSet.of(PAGO, CANCELADO),
+            PAGO, EnumSet.of(ESTORNADO),
+            CANCELADO, EnumSet.noneOf(EnumSaleStatus.class),
+            ESTORNADO, EnumSet.noneOf(EnumSaleStatus.class)));
+
+    // Vendas em aberto ou pagas ocupam um ingresso da capacidade do evento
+    public boolean holdsTicket() {
+        return this == EM_ABERTO || this == PAGO;
+    }
+
+    public boolean canTransitionTo(EnumSaleStatus status) {
+        return TRANSITIONS.get(this).contains(status);
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package br.edu.ufop.web.sales.infrastructure.converters;
+
+import br.edu.ufop.web.sales.enums.EnumEventType;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+// Grava o id estável do tipo em vez do ordinal: reordenar ou incluir valores no enum não altera os dados já gravados
+@Converter
+public class EnumEventTypeConverter implements AttributeConverter<EnumEventType, Integer> {
+
+    @Override
+    public Integer convertToDatabaseColumn(EnumEventType type) {
+        return type == null ? null : type.getId();
+    }
+
+    @Override
+    public EnumEventType convertToEntityAttribute(Integer id) {
+        return id == null ? null : EnumEventType.getById(id);
+    }
+
+}
@@ -1,6 +1,7 @@
 package br.edu.ufop.web.sales.infrastructure.entities;
 
 import br.edu.ufop.web.sales.enums.EnumEventType;
+import br.edu.ufop.web.sales.infrastructure.converters.EnumEventTypeConverter;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -18,11 +19,14 @@ import java.util.UUID;
 public class EventEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @TimeOrderedUuid
     private UUID id;
 
     private String description;
 
+    // Id do EnumEventType; a antiga coluna "type" (ordinal) é migrada por V2__backfill_event_type_id.sql
+    @Convert(converter = EnumEventTypeConverter.class)
+    @Column(name = "type_id")
     private EnumEventType type;
 
     private LocalDateTime dateTime;
@@ -32,6 +36,14 @@ public class EventEntity {
 
     private Float price;
 
+    // Capacidade nula significa evento sem limite de ingressos
+    private Integer capacity;
+
+    // Atualizado de forma assíncrona pelo TicketInventory (write-behind), só por IEventRepository.updateAvailableTickets:
+    // fora do UPDATE da entidade, para que salvar um evento carregado antes não sobrescreva o saldo gravado depois
+    @Column(updatable = false)
+    private Integer availableTickets;
+
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -16,12 +16,13 @@ import java.util.UUID;
 public class SaleEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @TimeOrderedUuid
     private UUID id;
 
     private UUID userId;
 
-    @ManyToOne
+    // Lazy: as leituras de SaleDTO usam SaleRowProjection; nas escritas o evento só é usado pelo id
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "event_id")
     private EventEntity event;
 
@@ -0,0 +1,55 @@
+package br.edu.ufop.web.sales.infrastructure.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Resposta original de cada POST /sales enviado com Idempotency-Key; gravada na mesma transação da venda.
+// Persistable com isNew() sempre verdadeiro: save() faz persist, e uma chave já gravada por outra instância
+// falha na chave primária em vez de virar um UPDATE via merge
+@Entity
+@Table(name = "tb_sale_idempotency_keys")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SaleIdempotencyKeyEntity implements Persistable<String> {
+
+    @Id
+    @Column(name = "idempotency_key", length = 255)
+    private String key;
+
+    // SHA-256 do corpo da requisição: a mesma chave com outro corpo é rejeitada
+    @Column(nullable = false, length = 64)
+    private String requestHash;
+
+    @Column(nullable = false)
+    private UUID saleId;
+
+    // SaleDTO serializado
+    @Column(nullable = false, columnDefinition = "text")
+    private String response;
+
+    private LocalDateTime createdAt;
+
+    @Override
+    public String getId() {
+        return key;
+    }
+
+    // As chaves nunca são alteradas depois de gravadas
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+
+    @PrePersist
+    public void beforeSave() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+}
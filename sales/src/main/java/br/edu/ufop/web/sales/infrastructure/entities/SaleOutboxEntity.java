@@ -0,0 +1,45 @@
+package br.edu.ufop.web.sales.infrastructure.entities;
+
+import br.edu.ufop.web.sales.enums.EnumSaleStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Mudanças de status das vendas a notificar; gravadas na mesma transação da venda e removidas após a entrega
+@Entity
+@Table(name = "tb_sale_outbox")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SaleOutboxEntity {
+
+    // Sequência com alocação em blocos: mantém os inserts em lote e a ordem de entrega
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sale_outbox_seq")
+    @SequenceGenerator(name = "sale_outbox_seq", sequenceName = "tb_sale_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private UUID saleId;
+
+    private UUID eventId;
+
+    private EnumSaleStatus previousStatus;
+
+    private EnumSaleStatus status;
+
+    private LocalDateTime createdAt;
+
+    // Preenchido pelo relay enquanto o registro está sendo entregue; vencido, o registro volta para a fila
+    private LocalDateTime leasedUntil;
+
+    @PrePersist
+    public void beforeSave() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+}
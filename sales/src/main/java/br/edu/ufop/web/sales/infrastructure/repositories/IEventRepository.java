@@ -1,10 +1,61 @@
 package br.edu.ufop.web.sales.infrastructure.repositories;
 
 import br.edu.ufop.web.sales.infrastructure.entities.EventEntity;
+import br.edu.ufop.web.sales.infrastructure.repositories.projections.CatalogVersionProjection;
+import br.edu.ufop.web.sales.infrastructure.repositories.projections.EventCapacityProjection;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
-public interface IEventRepository extends JpaRepository<EventEntity, UUID> {
+public interface IEventRepository extends JpaRepository<EventEntity, UUID>, JpaSpecificationExecutor<EventEntity> {
+
+    @Query("SELECT e FROM EventEntity e " +
+            "ORDER BY e.createdAt, e.id")
+    List<EventEntity> findFirstPage(Limit limit);
+
+    // Keyset: o createdAt >= redundante vira limite inferior da varredura em (created_at, id); o OR descarta os empates já lidos
+    @Query("SELECT e FROM EventEntity e " +
+            "WHERE e.createdAt >= :createdAt AND (e.createdAt > :createdAt OR e.id > :id) " +
+            "ORDER BY e.createdAt, e.id")
+    List<EventEntity> findPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT e FROM EventEntity e " +
+            "ORDER BY e.createdAt, e.id")
+    Stream<EventEntity> streamAll();
+
+    @Query("SELECT e.updatedAt FROM EventEntity e " +
+            "WHERE e.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") UUID id);
+
+    @Query("SELECT COUNT(e) AS total, MAX(e.updatedAt) AS lastUpdate FROM EventEntity e")
+    CatalogVersionProjection findCatalogVersion();
+
+    @Query("SELECT e.id AS id, e.capacity AS capacity FROM EventEntity e " +
+            "WHERE e.capacity IS NOT NULL")
+    List<EventCapacityProjection> findAllCapacities();
+
+    @Query("SELECT e.id AS id, e.capacity AS capacity FROM EventEntity e " +
+            "WHERE e.id = :id")
+    Optional<EventCapacityProjection> findCapacityById(@Param("id") UUID id);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE EventEntity e SET e.availableTickets = :availableTickets " +
+            "WHERE e.id = :id")
+    int updateAvailableTickets(@Param("id") UUID id, @Param("availableTickets") Integer availableTickets);
 
 }
\ No newline at end of file
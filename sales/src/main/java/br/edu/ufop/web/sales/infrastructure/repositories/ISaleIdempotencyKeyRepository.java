@@ -0,0 +1,19 @@
+package br.edu.ufop.web.sales.infrastructure.repositories;
+
+import br.edu.ufop.web.sales.infrastructure.entities.SaleIdempotencyKeyEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface ISaleIdempotencyKeyRepository extends JpaRepository<SaleIdempotencyKeyEntity, String> {
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM SaleIdempotencyKeyEntity k WHERE k.createdAt < :createdAt")
+    int deleteCreatedBefore(@Param("createdAt") LocalDateTime createdAt);
+
+}
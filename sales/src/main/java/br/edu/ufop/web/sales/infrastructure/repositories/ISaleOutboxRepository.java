@@ -0,0 +1,26 @@
+package br.edu.ufop.web.sales.infrastructure.repositories;
+
+import br.edu.ufop.web.sales.infrastructure.entities.SaleOutboxEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ISaleOutboxRepository extends JpaRepository<SaleOutboxEntity, Long> {
+
+    // SKIP LOCKED: instâncias concorrentes do relay drenam lotes diferentes sem se bloquear.
+    // Registros com lease em vigor estão sendo entregues por outro relay e ficam de fora
+    @Query(value = "SELECT * FROM tb_sale_outbox WHERE leased_until IS NULL OR leased_until < :now " +
+            "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<SaleOutboxEntity> lockNextBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE SaleOutboxEntity o SET o.leasedUntil = :leasedUntil WHERE o.id IN :ids")
+    int lease(@Param("ids") Collection<Long> ids, @Param("leasedUntil") LocalDateTime leasedUntil);
+
+}
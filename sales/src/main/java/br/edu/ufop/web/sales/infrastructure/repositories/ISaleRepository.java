@@ -1,10 +1,101 @@
 package br.edu.ufop.web.sales.infrastructure.repositories;
 
+import br.edu.ufop.web.sales.enums.EnumSaleStatus;
 import br.edu.ufop.web.sales.infrastructure.entities.SaleEntity;
+import br.edu.ufop.web.sales.infrastructure.repositories.projections.EventSalesCountProjection;
+import br.edu.ufop.web.sales.infrastructure.repositories.projections.EventStatusCountProjection;
+import br.edu.ufop.web.sales.infrastructure.repositories.projections.SaleDeadlineProjection;
+import br.edu.ufop.web.sales.infrastructure.repositories.projections.SaleRowProjection;
+import br.edu.ufop.web.sales.infrastructure.repositories.projections.SaleStatusProjection;
+import br.edu.ufop.web.sales.infrastructure.repositories.projections.SaleVersionProjection;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
-public interface ISaleRepository extends JpaRepository<SaleEntity, UUID> {
+public interface ISaleRepository extends JpaRepository<SaleEntity, UUID>, ISaleSearchRepository {
 
-}
\ No newline at end of file
+    // Leituras de SaleDTO: projeção por construtor com o evento em JOIN, uma consulta por página ou venda
+    String SALE_ROW = "SELECT new br.edu.ufop.web.sales.infrastructure.repositories.projections.SaleRowProjection(" +
+            "s.id, s.userId, s.dateTime, s.status, s.createdAt, s.updatedAt, " +
+            "e.id, e.description, e.type, e.dateTime, e.startingSales, e.endingSales, e.price, e.capacity, " +
+            "e.createdAt, e.updatedAt) " +
+            "FROM SaleEntity s JOIN s.event e ";
+
+    @Query(SALE_ROW +
+            "ORDER BY s.createdAt, s.id")
+    List<SaleRowProjection> findFirstPage(Limit limit);
+
+    // Keyset: o createdAt >= redundante vira limite inferior da varredura em (created_at, id); o OR descarta os empates já lidos
+    @Query(SALE_ROW +
+            "WHERE s.createdAt >= :createdAt AND (s.createdAt > :createdAt OR s.id > :id) " +
+            "ORDER BY s.createdAt, s.id")
+    List<SaleRowProjection> findPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(SALE_ROW +
+            "ORDER BY s.createdAt, s.id")
+    Stream<SaleRowProjection> streamAll();
+
+    @Query(SALE_ROW +
+            "WHERE s.id = :id")
+    Optional<SaleRowProjection> findRowById(@Param("id") UUID id);
+
+    @Query("SELECT s.event.id AS eventId, COUNT(s) AS total FROM SaleEntity s " +
+            "WHERE s.status IN :statuses GROUP BY s.event.id")
+    List<EventSalesCountProjection> countByEventAndStatusIn(@Param("statuses") Collection<EnumSaleStatus> statuses);
+
+    @Query("SELECT COUNT(s) FROM SaleEntity s " +
+            "WHERE s.event.id = :eventId AND s.status IN :statuses")
+    long countByEventIdAndStatusIn(@Param("eventId") UUID eventId, @Param("statuses") Collection<EnumSaleStatus> statuses);
+
+    @Query("SELECT s.event.id AS eventId, s.status AS status, COUNT(s) AS total FROM SaleEntity s " +
+            "GROUP BY s.event.id, s.status")
+    List<EventStatusCountProjection> countByEventAndStatus();
+
+    @Query("SELECT s.event.id AS eventId, s.status AS status FROM SaleEntity s " +
+            "WHERE s.id = :id")
+    Optional<SaleStatusProjection> findStatusById(@Param("id") UUID id);
+
+    // Transição condicional: só altera a venda se o status ainda for o esperado (0 linhas = outra transação chegou antes)
+    @Modifying
+    @Query("UPDATE SaleEntity s SET s.status = :status, s.updatedAt = :updatedAt " +
+            "WHERE s.id = :id AND s.status = :expected")
+    int updateStatus(@Param("id") UUID id, @Param("expected") EnumSaleStatus expected,
+                     @Param("status") EnumSaleStatus status, @Param("updatedAt") LocalDateTime updatedAt);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT s.id AS id, s.event.id AS eventId, s.createdAt AS createdAt FROM SaleEntity s " +
+            "WHERE s.status = :status")
+    Stream<SaleDeadlineProjection> streamByStatus(@Param("status") EnumSaleStatus status);
+
+    // Trava as vendas do lote que ainda estão no status informado; as demais já mudaram de status e ficam de fora
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s.id AS id, s.event.id AS eventId, s.createdAt AS createdAt FROM SaleEntity s " +
+            "WHERE s.id IN :ids AND s.status = :status")
+    List<SaleDeadlineProjection> lockByIdInAndStatus(@Param("ids") Collection<UUID> ids, @Param("status") EnumSaleStatus status);
+
+    @Modifying
+    @Query("UPDATE SaleEntity s SET s.status = :status, s.updatedAt = :updatedAt " +
+            "WHERE s.id IN :ids")
+    int updateStatusByIds(@Param("ids") Collection<UUID> ids, @Param("status") EnumSaleStatus status,
+                          @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Query("SELECT s.updatedAt AS updatedAt, e.updatedAt AS eventUpdatedAt FROM SaleEntity s JOIN s.event e " +
+            "WHERE s.id = :id")
+    Optional<SaleVersionProjection> findVersionById(@Param("id") UUID id);
+
+}
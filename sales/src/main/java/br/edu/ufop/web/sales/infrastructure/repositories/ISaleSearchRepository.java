@@ -0,0 +1,16 @@
+package br.edu.ufop.web.sales.infrastructure.repositories;
+
+import br.edu.ufop.web.sales.controller.dtos.sales.SaleFilterDTO;
+import br.edu.ufop.web.sales.infrastructure.repositories.projections.SaleRowProjection;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+// Fragmento de ISaleRepository: listagem filtrada de vendas, montada com Criteria apenas com os filtros informados
+public interface ISaleSearchRepository {
+
+    // Página na ordem (dateTime, id); afterDateTime/afterId nulos buscam a primeira página
+    List<SaleRowProjection> findFilteredPage(SaleFilterDTO filter, LocalDateTime afterDateTime, UUID afterId, int limit);
+
+}
@@ -0,0 +1,89 @@
+package br.edu.ufop.web.sales.infrastructure.repositories;
+
+import br.edu.ufop.web.sales.controller.dtos.sales.SaleFilterDTO;
+import br.edu.ufop.web.sales.infrastructure.entities.EventEntity;
+import br.edu.ufop.web.sales.infrastructure.entities.SaleEntity;
+import br.edu.ufop.web.sales.infrastructure.repositories.projections.SaleRowProjection;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Cada filtro informado vira um predicado de igualdade ou intervalo sobre tb_sales e a ordenação é (dateTime, id).
+ * A página é lida em ordem pelo índice, sem ordenar as vendas do filtro, quando as igualdades cobrem as colunas
+ * que antecedem (date_time, id) em algum índice (db/migration/V3 e V5):
+ * userId em idx_sales_user_date_time; eventId em idx_sales_event_date_time; eventId e status em
+ * idx_sales_event_status_date_time; só período em idx_sales_date_time_id. Nas demais combinações (status sem
+ * eventId, userId com eventId) o índice de maior prefixo é lido e a outra igualdade vira filtro: a ordem se
+ * mantém, mas as linhas descartadas também são percorridas.
+ */
+@RequiredArgsConstructor
+public class ISaleSearchRepositoryImpl implements ISaleSearchRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<SaleRowProjection> findFilteredPage(SaleFilterDTO filter, LocalDateTime afterDateTime, UUID afterId, int limit) {
+
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<SaleRowProjection> query = builder.createQuery(SaleRowProjection.class);
+
+        Root<SaleEntity> sale = query.from(SaleEntity.class);
+        Join<SaleEntity, EventEntity> event = sale.join("event");
+
+        query.select(builder.construct(SaleRowProjection.class,
+                sale.get("id"), sale.get("userId"), sale.get("dateTime"), sale.get("status"),
+                sale.get("createdAt"), sale.get("updatedAt"),
+                event.get("id"), event.get("description"), event.get("type"), event.get("dateTime"),
+                event.get("startingSales"), event.get("endingSales"), event.get("price"), event.get("capacity"),
+                event.get("createdAt"), event.get("updatedAt")));
+
+        List<Predicate> predicates = new ArrayList<>();
+
+        if (filter.getUserId() != null) {
+            predicates.add(builder.equal(sale.get("userId"), filter.getUserId()));
+        }
+
+        // Compara a chave estrangeira de tb_sales (event_id), não a coluna do JOIN
+        if (filter.getEventId() != null) {
+            predicates.add(builder.equal(sale.get("event").get("id"), filter.getEventId()));
+        }
+
+        if (filter.getStatus() != null) {
+            predicates.add(builder.equal(sale.get("status"), filter.getStatus()));
+        }
+
+        if (filter.getFrom() != null) {
+            predicates.add(builder.greaterThanOrEqualTo(sale.get("dateTime"), filter.getFrom()));
+        }
+
+        if (filter.getTo() != null) {
+            predicates.add(builder.lessThan(sale.get("dateTime"), filter.getTo()));
+        }
+
+        // Keyset: o dateTime >= redundante vira limite inferior da varredura no índice; o OR descarta os empates já lidos
+        if (afterDateTime != null && afterId != null) {
+            predicates.add(builder.greaterThanOrEqualTo(sale.get("dateTime"), afterDateTime));
+            predicates.add(builder.or(
+                    builder.greaterThan(sale.get("dateTime"), afterDateTime),
+                    builder.greaterThan(sale.<UUID>get("id"), afterId)));
+        }
+
+        query.where(predicates.toArray(Predicate[]::new))
+                .orderBy(builder.asc(sale.get("dateTime")), builder.asc(sale.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+}
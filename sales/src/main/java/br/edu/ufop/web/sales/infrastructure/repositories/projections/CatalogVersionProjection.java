@@ -0,0 +1,11 @@
+package br.edu.ufop.web.sales.infrastructure.repositories.projections;
+
+import java.time.LocalDateTime;
+
+public interface CatalogVersionProjection {
+
+    long getTotal();
+
+    LocalDateTime getLastUpdate();
+
+}
@@ -0,0 +1,11 @@
+package br.edu.ufop.web.sales.infrastructure.repositories.projections;
+
+import java.util.UUID;
+
+public interface EventSalesCountProjection {
+
+    UUID getEventId();
+
+    Long getTotal();
+
+}
@@ -0,0 +1,15 @@
+package br.edu.ufop.web.sales.infrastructure.repositories.projections;
+
+import br.edu.ufop.web.sales.enums.EnumSaleStatus;
+
+import java.util.UUID;
+
+public interface EventStatusCountProjection {
+
+    UUID getEventId();
+
+    EnumSaleStatus getStatus();
+
+    Long getTotal();
+
+}
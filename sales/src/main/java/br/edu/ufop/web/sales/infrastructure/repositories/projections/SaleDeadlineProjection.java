@@ -0,0 +1,14 @@
+package br.edu.ufop.web.sales.infrastructure.repositories.projections;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface SaleDeadlineProjection {
+
+    UUID getId();
+
+    UUID getEventId();
+
+    LocalDateTime getCreatedAt();
+
+}
@@ -0,0 +1,16 @@
+package br.edu.ufop.web.sales.infrastructure.repositories.projections;
+
+import br.edu.ufop.web.sales.enums.EnumEventType;
+import br.edu.ufop.web.sales.enums.EnumSaleStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Colunas de SaleDTO (venda + evento) lidas em uma única consulta, sem instanciar SaleEntity nem EventEntity
+public record SaleRowProjection(UUID id, UUID userId, LocalDateTime dateTime, EnumSaleStatus status,
+                                LocalDateTime createdAt, LocalDateTime updatedAt,
+                                UUID eventId, String eventDescription, EnumEventType eventType,
+                                LocalDateTime eventDateTime, LocalDateTime eventStartingSales,
+                                LocalDateTime eventEndingSales, Float eventPrice, Integer eventCapacity,
+                                LocalDateTime eventCreatedAt, LocalDateTime eventUpdatedAt) {
+}
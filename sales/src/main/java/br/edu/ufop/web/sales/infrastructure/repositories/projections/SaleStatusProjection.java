@@ -0,0 +1,13 @@
+package br.edu.ufop.web.sales.infrastructure.repositories.projections;
+
+import br.edu.ufop.web.sales.enums.EnumSaleStatus;
+
+import java.util.UUID;
+
+public interface SaleStatusProjection {
+
+    UUID getEventId();
+
+    EnumSaleStatus getStatus();
+
+}
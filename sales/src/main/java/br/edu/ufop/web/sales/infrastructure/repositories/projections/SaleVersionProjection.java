@@ -0,0 +1,12 @@
+package br.edu.ufop.web.sales.infrastructure.repositories.projections;
+
+import java.time.LocalDateTime;
+
+// A resposta de uma venda inclui o evento: as duas datas de alteração compõem o ETag
+public interface SaleVersionProjection {
+
+    LocalDateTime getUpdatedAt();
+
+    LocalDateTime getEventUpdatedAt();
+
+}
@@ -0,0 +1,49 @@
+package br.edu.ufop.web.sales.infrastructure.repositories.specifications;
+
+import br.edu.ufop.web.sales.enums.EnumEventType;
+import br.edu.ufop.web.sales.infrastructure.entities.EventEntity;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Filtros do catálogo de eventos; apenas os filtros informados entram no SQL, para que o planner use os índices de tb_events
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class EventSpecifications {
+
+    public static Specification<EventEntity> hasDateTime() {
+        return (root, query, builder) -> builder.isNotNull(root.get("dateTime"));
+    }
+
+    public static Specification<EventEntity> hasType(EnumEventType type) {
+        return (root, query, builder) -> builder.equal(root.get("type"), type);
+    }
+
+    public static Specification<EventEntity> dateTimeFrom(LocalDateTime from) {
+        return (root, query, builder) -> builder.greaterThanOrEqualTo(root.get("dateTime"), from);
+    }
+
+    public static Specification<EventEntity> dateTimeBefore(LocalDateTime to) {
+        return (root, query, builder) -> builder.lessThan(root.get("dateTime"), to);
+    }
+
+    // Período de vendas aberto no instante informado
+    public static Specification<EventEntity> onSaleAt(LocalDateTime now) {
+        return (root, query, builder) -> builder.and(
+                builder.lessThanOrEqualTo(root.get("startingSales"), now),
+                builder.greaterThanOrEqualTo(root.get("endingSales"), now));
+    }
+
+    // Keyset: eventos posteriores ao último da página anterior na ordem (dateTime, id).
+    // O dateTime >= redundante vira limite inferior da varredura no índice; o OR descarta os empates já lidos
+    public static Specification<EventEntity> after(LocalDateTime dateTime, UUID id) {
+        return (root, query, builder) -> builder.and(
+                builder.greaterThanOrEqualTo(root.get("dateTime"), dateTime),
+                builder.or(
+                        builder.greaterThan(root.get("dateTime"), dateTime),
+                        builder.greaterThan(root.<UUID>get("id"), id)));
+    }
+
+}
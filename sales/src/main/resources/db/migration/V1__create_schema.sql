@@ -0,0 +1,59 @@
+-- Esquema do sales-service. IF NOT EXISTS: bancos criados pelo antigo ddl-auto=update entram pelo baseline
+-- (versão 0) e passam por esta migração sem alterações
+
+CREATE TABLE IF NOT EXISTS tb_events (
+    id                uuid         NOT NULL,
+    description       varchar(255),
+    type_id           integer,
+    date_time         timestamp(6),
+    starting_sales    timestamp(6),
+    ending_sales      timestamp(6),
+    price             real,
+    capacity          integer,
+    available_tickets integer,
+    created_at        timestamp(6),
+    updated_at        timestamp(6),
+    CONSTRAINT tb_events_pkey PRIMARY KEY (id)
+);
+
+-- Colunas incluídas depois da primeira versão de tb_events
+ALTER TABLE tb_events ADD COLUMN IF NOT EXISTS type_id integer;
+ALTER TABLE tb_events ADD COLUMN IF NOT EXISTS capacity integer;
+ALTER TABLE tb_events ADD COLUMN IF NOT EXISTS available_tickets integer;
+
+CREATE TABLE IF NOT EXISTS tb_sales (
+    id         uuid     NOT NULL,
+    user_id    uuid,
+    event_id   uuid,
+    date_time  timestamp(6),
+    status     smallint,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    CONSTRAINT tb_sales_pkey PRIMARY KEY (id),
+    CONSTRAINT tb_sales_status_check CHECK (status BETWEEN 0 AND 3),
+    CONSTRAINT fk_sales_event FOREIGN KEY (event_id) REFERENCES tb_events (id)
+);
+
+CREATE TABLE IF NOT EXISTS tb_sale_idempotency_keys (
+    idempotency_key varchar(255) NOT NULL,
+    request_hash    varchar(64)  NOT NULL,
+    sale_id         uuid         NOT NULL,
+    response        text         NOT NULL,
+    created_at      timestamp(6),
+    CONSTRAINT tb_sale_idempotency_keys_pkey PRIMARY KEY (idempotency_key)
+);
+
+-- Incremento igual ao allocationSize de SaleOutboxEntity
+CREATE SEQUENCE IF NOT EXISTS tb_sale_outbox_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS tb_sale_outbox (
+    id              bigint   NOT NULL,
+    sale_id         uuid     NOT NULL,
+    event_id        uuid,
+    previous_status smallint,
+    status          smallint,
+    created_at      timestamp(6),
+    CONSTRAINT tb_sale_outbox_pkey PRIMARY KEY (id),
+    CONSTRAINT tb_sale_outbox_previous_status_check CHECK (previous_status BETWEEN 0 AND 3),
+    CONSTRAINT tb_sale_outbox_status_check CHECK (status BETWEEN 0 AND 3)
+);
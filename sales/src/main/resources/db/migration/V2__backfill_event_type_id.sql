@@ -0,0 +1,10 @@
+-- A coluna antiga "type" guardava o ordinal do EnumEventType; o id de cada tipo é o ordinal + 1.
+-- Só existe em bancos criados antes de type_id
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_schema = current_schema() AND table_name = 'tb_events' AND column_name = 'type') THEN
+        EXECUTE 'UPDATE tb_events SET type_id = type + 1 WHERE type_id IS NULL AND type IS NOT NULL';
+    END IF;
+END
+$$;
@@ -0,0 +1,21 @@
+-- Índices das consultas quentes. CONCURRENTLY não bloqueia escritas durante a criação; o Flyway executa
+-- esta migração fora de transação
+
+-- GET /events: paginação por createdAt e catálogo filtrado por data, tipo e período de vendas
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_events_created_at_id ON tb_events (created_at, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_events_date_time_id ON tb_events (date_time, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_events_type_date_time_id ON tb_events (type_id, date_time, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_events_sales_window ON tb_events (ending_sales, starting_sales);
+-- Versão do catálogo (ETag de GET /events): MAX(updated_at)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_events_updated_at ON tb_events (updated_at);
+
+-- GET /sales: paginação por createdAt e listagens filtradas por usuário, evento/status e data
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_sales_created_at_id ON tb_sales (created_at, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_sales_user_date_time ON tb_sales (user_id, date_time, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_sales_event_status_date_time ON tb_sales (event_id, status, date_time, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_sales_date_time_id ON tb_sales (date_time, id);
+-- Reconstrução dos prazos de pagamento: vendas em aberto por createdAt
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_sales_status_created_at ON tb_sales (status, created_at);
+
+-- Limpeza das chaves de idempotência expiradas
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_sale_idempotency_keys_created_at ON tb_sale_idempotency_keys (created_at);
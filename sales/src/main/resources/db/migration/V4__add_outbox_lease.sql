@@ -0,0 +1,3 @@
+-- Lease dos registros do outbox: o relay marca o lote, confirma a transação e só então chama o
+-- notifications-service, sem manter travas e conexão abertas durante a chamada HTTP
+ALTER TABLE tb_sale_outbox ADD COLUMN IF NOT EXISTS leased_until timestamp(6);
@@ -0,0 +1,4 @@
+-- Vendas de um evento em qualquer status: em idx_sales_event_status_date_time o status vem antes de date_time,
+-- então a listagem por event_id sem status precisava ordenar todas as vendas do evento antes do LIMIT.
+-- CONCURRENTLY não bloqueia escritas; o Flyway executa esta migração fora de transação
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_sales_event_date_time ON tb_sales (event_id, date_time, id);
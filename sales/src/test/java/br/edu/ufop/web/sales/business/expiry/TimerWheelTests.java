@@ -0,0 +1,108 @@
+package br.edu.ufop.web.sales.business.expiry;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimerWheelTests {
+
+    private static final int THREADS = 8;
+    private static final int KEYS = 20_000;
+
+    @Test
+    void expiresOnlyDueKeys() {
+
+        TimerWheel<Integer> wheel = new TimerWheel<>(Duration.ofMillis(10), 16);
+
+        wheel.schedule(1, 100);
+        wheel.schedule(2, 500);
+        wheel.schedule(3, 100);
+        wheel.cancel(3);
+
+        assertEquals(List.of(), wheel.advance(50));
+        assertEquals(List.of(1), wheel.advance(120));
+        assertEquals(List.of(2), wheel.advance(10_000));
+        assertEquals(0, wheel.size());
+    }
+
+    // Um avanço com relógio anterior ao último não manda os prazos novos para baldes já percorridos
+    @Test
+    void lateAdvanceDoesNotRewindTheWheel() {
+
+        TimerWheel<Integer> wheel = new TimerWheel<>(Duration.ofMillis(10), 16);
+
+        wheel.advance(1_000);
+        wheel.schedule(1, 995);
+        wheel.schedule(2, 1_050);
+
+        assertEquals(List.of(1), wheel.advance(900));
+        assertEquals(List.of(2), wheel.advance(1_060));
+        assertEquals(0, wheel.size());
+    }
+
+    // Avanços de várias threads, como os ticks do SimpleAsyncTaskScheduler: cada chave vence exatamente uma vez
+    @Test
+    void concurrentAdvancesExpireEachKeyOnce() throws Exception {
+
+        TimerWheel<Integer> wheel = new TimerWheel<>(Duration.ofMillis(1), 64);
+        AtomicLong clock = new AtomicLong(1_000);
+        Set<Integer> expired = ConcurrentHashMap.newKeySet();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList<>();
+
+        try {
+            for (int thread = 0; thread < THREADS; thread++) {
+
+                int first = thread;
+
+                futures.add(executor.submit(() -> {
+
+                    start.await();
+                    int duplicates = 0;
+
+                    for (int key = first; key < KEYS; key += THREADS) {
+
+                        wheel.schedule(key, clock.get() + key % 200);
+
+                        for (Integer due : wheel.advance(clock.incrementAndGet())) {
+                            if (!expired.add(due)) {
+                                duplicates++;
+                            }
+                        }
+                    }
+
+                    return duplicates;
+                }));
+            }
+
+            start.countDown();
+
+            for (Future<Integer> future : futures) {
+                assertEquals(0, future.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        wheel.advance(clock.get() + 1_000).forEach(due -> assertTrue(expired.add(due)));
+
+        assertEquals(KEYS, expired.size());
+        assertEquals(0, wheel.size());
+    }
+
+}
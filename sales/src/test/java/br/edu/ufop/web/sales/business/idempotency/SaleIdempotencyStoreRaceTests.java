@@ -0,0 +1,114 @@
+package br.edu.ufop.web.sales.business.idempotency;
+
+import br.edu.ufop.web.sales.controller.dtos.sales.CreateSaleDTO;
+import br.edu.ufop.web.sales.controller.dtos.sales.SaleDTO;
+import br.edu.ufop.web.sales.infrastructure.repositories.ISaleIdempotencyKeyRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Duas instâncias do serviço (stores com caches em memória separados) recebem a mesma Idempotency-Key:
+// a chave primária de tb_sale_idempotency_keys decide a vencedora e a perdedora devolve a resposta gravada
+@DataJpaTest(properties = {
+        "spring.main.lazy-initialization=true",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SaleIdempotencyStoreRaceTests {
+
+    private static final String KEY = "checkout-42";
+
+    @Autowired
+    private ISaleIdempotencyKeyRepository repository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private SaleIdempotencyStore firstInstance;
+    private SaleIdempotencyStore secondInstance;
+
+    @BeforeEach
+    void setup() {
+
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        firstInstance = store(objectMapper);
+        secondInstance = store(objectMapper);
+    }
+
+    @AfterEach
+    void cleanup() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void keyCommittedByAnotherInstanceWinsTheRace() throws Exception {
+
+        CreateSaleDTO request = new CreateSaleDTO(UUID.randomUUID(), UUID.randomUUID());
+        UUID firstSaleId = UUID.randomUUID();
+        UUID secondSaleId = UUID.randomUUID();
+
+        CountDownLatch secondChecked = new CountDownLatch(1);
+        CountDownLatch firstCommitted = new CountDownLatch(1);
+
+        // A segunda instância já consultou a chave (ainda ausente) e só grava depois que a primeira confirmou
+        CompletableFuture<SaleDTO> second = CompletableFuture.supplyAsync(() ->
+                secondInstance.execute(KEY, request, requestHash -> transactionTemplate.execute(status -> {
+                    secondChecked.countDown();
+                    await(firstCommitted);
+
+                    SaleDTO sale = SaleDTO.builder().id(secondSaleId).build();
+                    secondInstance.record(KEY, requestHash, sale);
+                    return sale;
+                })));
+
+        assertTrue(secondChecked.await(10, TimeUnit.SECONDS));
+
+        SaleDTO first = firstInstance.execute(KEY, request, requestHash -> transactionTemplate.execute(status -> {
+            SaleDTO sale = SaleDTO.builder().id(firstSaleId).build();
+            firstInstance.record(KEY, requestHash, sale);
+            return sale;
+        }));
+        firstCommitted.countDown();
+
+        assertEquals(firstSaleId, first.getId());
+        assertEquals(firstSaleId, second.get(10, TimeUnit.SECONDS).getId());
+        assertEquals(firstSaleId, repository.findById(KEY).orElseThrow().getSaleId());
+        assertEquals(1, repository.count());
+    }
+
+    private SaleIdempotencyStore store(ObjectMapper objectMapper) {
+
+        return new SaleIdempotencyStore(repository, objectMapper, 1000, Duration.ofMinutes(10),
+                Duration.ofSeconds(10), Duration.ofDays(1));
+    }
+
+    private static void await(CountDownLatch latch) {
+
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,159 @@
+package br.edu.ufop.web.sales.business.inventory;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StripedQuotaTests {
+
+    private static final int THREADS = 16;
+    private static final int ATTEMPTS_PER_THREAD = 500;
+
+    @Test
+    void acquiresEveryTicketAcrossStripesAndNoMore() {
+
+        StripedQuota quota = new StripedQuota(4, 10);
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(quota.tryAcquire());
+        }
+
+        assertFalse(quota.tryAcquire());
+        assertEquals(0, quota.available());
+    }
+
+    // Com um único ingresso, só uma faixa tem saldo: qualquer que seja a faixa de origem, a reserva o encontra
+    @Test
+    void stealsFromOtherStripesWhenHomeStripeIsEmpty() {
+
+        for (int trial = 0; trial < 200; trial++) {
+
+            StripedQuota quota = new StripedQuota(8, 1);
+
+            assertTrue(quota.tryAcquire());
+            assertFalse(quota.tryAcquire());
+        }
+    }
+
+    @Test
+    void releasedTicketCanBeAcquiredAgain() {
+
+        StripedQuota quota = new StripedQuota(4, 2);
+
+        assertTrue(quota.tryAcquire());
+        assertTrue(quota.tryAcquire());
+        quota.release();
+
+        assertEquals(1, quota.available());
+        assertTrue(quota.tryAcquire());
+        assertFalse(quota.tryAcquire());
+    }
+
+    // Reduzir abaixo das reservas feitas deixa uma dívida, quitada pelas próximas liberações
+    @Test
+    void reductionBelowReservationsIsPaidByReleases() {
+
+        StripedQuota quota = new StripedQuota(4, 8);
+
+        for (int i = 0; i < 6; i++) {
+            assertTrue(quota.tryAcquire());
+        }
+
+        quota.adjust(-5);
+        assertEquals(0, quota.available());
+        assertFalse(quota.tryAcquire());
+
+        for (int i = 0; i < 3; i++) {
+            quota.release();
+        }
+
+        assertEquals(0, quota.available());
+
+        quota.release();
+        assertEquals(1, quota.available());
+
+        quota.adjust(3);
+        assertEquals(4, quota.available());
+    }
+
+    // Reservas feitas enquanto o evento não tinha limite continuam descontadas quando ele passa a ter
+    @Test
+    void changingCapacityKeepsReservationsInFlight() {
+
+        StripedQuota quota = StripedQuota.unlimited(4, 2);
+
+        assertTrue(quota.isUnlimited());
+        assertEquals(Integer.MAX_VALUE, quota.available());
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(quota.tryAcquire());
+        }
+
+        quota.changeCapacity(null, 10);
+        assertFalse(quota.isUnlimited());
+        assertEquals(5, quota.available());
+
+        quota.changeCapacity(10, null);
+        assertTrue(quota.isUnlimited());
+
+        quota.changeCapacity(null, 10);
+        assertEquals(5, quota.available());
+
+        quota.changeCapacity(10, 4);
+        assertEquals(0, quota.available());
+        assertFalse(quota.tryAcquire());
+    }
+
+    @Test
+    void concurrentReservationsNeverOversell() throws Exception {
+
+        int tickets = THREADS * ATTEMPTS_PER_THREAD / 3;
+        StripedQuota quota = new StripedQuota(THREADS, tickets);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList<>();
+
+        try {
+            for (int thread = 0; thread < THREADS; thread++) {
+                futures.add(executor.submit(() -> {
+
+                    start.await();
+                    int acquired = 0;
+
+                    for (int attempt = 0; attempt < ATTEMPTS_PER_THREAD; attempt++) {
+                        if (quota.tryAcquire()) {
+                            acquired++;
+                        }
+                    }
+
+                    return acquired;
+                }));
+            }
+
+            start.countDown();
+
+            int acquired = 0;
+
+            for (Future<Integer> future : futures) {
+                acquired += future.get(10, TimeUnit.SECONDS);
+            }
+
+            assertEquals(tickets, acquired);
+            assertEquals(0, quota.available());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+}
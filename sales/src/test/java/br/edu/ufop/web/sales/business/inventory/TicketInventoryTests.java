@@ -0,0 +1,94 @@
+package br.edu.ufop.web.sales.business.inventory;
+
+import br.edu.ufop.web.sales.infrastructure.repositories.IEventRepository;
+import br.edu.ufop.web.sales.infrastructure.repositories.ISaleRepository;
+import br.edu.ufop.web.sales.infrastructure.repositories.projections.EventCapacityProjection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TicketInventoryTests {
+
+    private IEventRepository eventRepository;
+    private ISaleRepository saleRepository;
+    private TicketInventory ticketInventory;
+
+    private final UUID eventId = UUID.randomUUID();
+
+    @BeforeEach
+    void setup() {
+
+        eventRepository = mock(IEventRepository.class);
+        saleRepository = mock(ISaleRepository.class);
+        ticketInventory = new TicketInventory(eventRepository, saleRepository);
+    }
+
+    // Reservas feitas sem limite e ainda não confirmadas em tb_sales não podem ser vendidas de novo
+    @Test
+    void limitingAnEventKeepsUncommittedReservations() {
+
+        ticketInventory.register(eventId, null);
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(ticketInventory.reserve(eventId));
+        }
+
+        ticketInventory.changeCapacity(eventId, null, 5);
+
+        assertEquals(2, ticketInventory.available(eventId));
+        assertTrue(ticketInventory.reserve(eventId));
+        assertTrue(ticketInventory.reserve(eventId));
+        assertFalse(ticketInventory.reserve(eventId));
+
+        // A venda de uma das reservas foi desfeita: o ingresso volta ao estoque
+        ticketInventory.release(eventId);
+        assertTrue(ticketInventory.reserve(eventId));
+    }
+
+    @Test
+    void removingTheLimitReopensSales() {
+
+        ticketInventory.register(eventId, 2);
+
+        assertTrue(ticketInventory.reserve(eventId));
+        assertTrue(ticketInventory.reserve(eventId));
+        assertFalse(ticketInventory.reserve(eventId));
+
+        ticketInventory.changeCapacity(eventId, 2, null);
+
+        assertTrue(ticketInventory.reserve(eventId));
+        assertEquals(Integer.MAX_VALUE, ticketInventory.available(eventId));
+
+        ticketInventory.changeCapacity(eventId, null, 4);
+        assertEquals(1, ticketInventory.available(eventId));
+    }
+
+    // Evento desconhecido é carregado do banco uma única vez: capacidade menos as vendas que ocupam ingresso
+    @Test
+    void unknownEventIsLoadedOnce() {
+
+        EventCapacityProjection capacity = mock(EventCapacityProjection.class);
+        when(capacity.getCapacity()).thenReturn(10);
+        when(eventRepository.findCapacityById(eventId)).thenReturn(Optional.of(capacity));
+        when(saleRepository.countByEventIdAndStatusIn(eq(eventId), any())).thenReturn(4L);
+
+        assertEquals(6, ticketInventory.available(eventId));
+        assertTrue(ticketInventory.reserve(eventId));
+        assertEquals(5, ticketInventory.available(eventId));
+
+        verify(eventRepository, times(1)).findCapacityById(eventId);
+    }
+
+}
@@ -0,0 +1,98 @@
+package br.edu.ufop.web.sales.business.services;
+
+import br.edu.ufop.web.sales.business.cache.EventCache;
+import br.edu.ufop.web.sales.business.inventory.TicketInventory;
+import br.edu.ufop.web.sales.business.stats.EventSalesStats;
+import br.edu.ufop.web.sales.controller.dtos.events.EventDTO;
+import br.edu.ufop.web.sales.controller.dtos.events.UpdateEventDTO;
+import br.edu.ufop.web.sales.enums.EnumEventType;
+import br.edu.ufop.web.sales.infrastructure.entities.EventEntity;
+import br.edu.ufop.web.sales.infrastructure.repositories.IEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EventServiceTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private IEventRepository eventRepository;
+    private TicketInventory ticketInventory;
+    private EventService eventService;
+
+    private final UUID eventId = UUID.randomUUID();
+    private EventEntity eventEntity;
+
+    @BeforeEach
+    void setup() {
+
+        eventRepository = mock(IEventRepository.class);
+        ticketInventory = mock(TicketInventory.class);
+        eventService = new EventService(eventRepository, mock(EntityManager.class), ticketInventory,
+                mock(EventCache.class), mock(EventSalesStats.class));
+
+        eventEntity = EventEntity.builder()
+                .id(eventId)
+                .description("Show")
+                .type(EnumEventType.SHOW)
+                .price(50f)
+                .capacity(100)
+                .build();
+
+        when(eventRepository.findById(eventId)).thenReturn(Optional.of(eventEntity));
+        when(eventRepository.save(any(EventEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    // Mesmo corpo do EventForm do frontend, que não envia a capacidade: o limite atual é mantido
+    @Test
+    void updateWithoutCapacityKeepsTheLimit() throws Exception {
+
+        UpdateEventDTO dto = objectMapper.readValue("""
+                {"description": "Show remarcado", "type": 2, "price": 60, "dateTime": "2030-05-10T20:00:00",
+                 "startingSales": "2030-04-01T09:00:00", "endingSales": "2030-05-10T18:00:00"}
+                """, UpdateEventDTO.class);
+
+        EventDTO eventDTO = eventService.update(eventId, dto);
+
+        assertEquals("Show remarcado", eventDTO.getDescription());
+        assertEquals(100, eventDTO.getCapacity());
+        assertEquals(100, eventEntity.getCapacity());
+        verify(ticketInventory, never()).changeCapacity(any(), any(), any());
+    }
+
+    @Test
+    void updateWithCapacityChangesTheLimit() throws Exception {
+
+        UpdateEventDTO dto = objectMapper.readValue("""
+                {"description": "Show", "type": 2, "price": 50, "capacity": 150}
+                """, UpdateEventDTO.class);
+
+        assertEquals(150, eventService.update(eventId, dto).getCapacity());
+        verify(ticketInventory).changeCapacity(eventId, 100, 150);
+    }
+
+    // Enviado explicitamente como null, o campo remove o limite
+    @Test
+    void updateWithNullCapacityRemovesTheLimit() throws Exception {
+
+        UpdateEventDTO dto = objectMapper.readValue("""
+                {"description": "Show", "type": 2, "price": 50, "capacity": null}
+                """, UpdateEventDTO.class);
+
+        assertNull(eventService.update(eventId, dto).getCapacity());
+        verify(ticketInventory).changeCapacity(eventId, 100, null);
+    }
+
+}
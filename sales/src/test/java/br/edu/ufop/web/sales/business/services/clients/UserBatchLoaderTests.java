@@ -0,0 +1,102 @@
+package br.edu.ufop.web.sales.business.services.clients;
+
+import br.edu.ufop.web.sales.business.services.clients.dtos.UserServiceDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserBatchLoaderTests {
+
+    private UserServiceClient userServiceClient;
+    private ThreadPoolTaskExecutor executor;
+    private UserBatchLoader userBatchLoader;
+
+    @BeforeEach
+    void setup() {
+
+        userServiceClient = mock(UserServiceClient.class);
+
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.initialize();
+
+        userBatchLoader = new UserBatchLoader(userServiceClient, executor, Duration.ofMillis(5), 100,
+                Duration.ofMillis(200), 100, Duration.ofSeconds(30), new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void teardown() {
+        executor.shutdown();
+    }
+
+    // Os ids de uma página saem em uma única chamada; os não encontrados ficam de fora do resultado
+    @Test
+    void idsOfOnePageAreOneCall() {
+
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+
+        when(userServiceClient.getByIds(any())).thenAnswer(invocation -> ((Collection<UUID>) invocation.getArgument(0)).stream()
+                .filter(id -> !id.equals(missing))
+                .map(id -> UserServiceDTO.builder().id(id).name("Usuário").build())
+                .toList());
+
+        Map<UUID, UserServiceDTO> users = userBatchLoader.getByIds(List.of(first, second, missing));
+
+        assertEquals(2, users.size());
+        assertTrue(users.containsKey(first) && users.containsKey(second));
+        verify(userServiceClient, times(1)).getByIds(any());
+
+        // Os encontrados ficam no near-cache
+        assertEquals(Optional.of(users.get(first)), userBatchLoader.getById(first));
+        verify(userServiceClient, times(1)).getByIds(any());
+    }
+
+    // Depois do timeout a consulta do mesmo id não espera pela chamada presa: abre um novo lote
+    @Test
+    void timedOutLookupIsNotReused() throws Exception {
+
+        UUID id = UUID.randomUUID();
+        CountDownLatch release = new CountDownLatch(1);
+
+        when(userServiceClient.getByIds(any()))
+                .thenAnswer(invocation -> {
+                    release.await(5, TimeUnit.SECONDS);
+                    return List.of();
+                })
+                .thenReturn(List.of(UserServiceDTO.builder().id(id).name("Usuário").build()));
+
+        assertThrows(RuntimeException.class, () -> userBatchLoader.getById(id));
+
+        assertEquals(id, userBatchLoader.getById(id).orElseThrow().getId());
+        verify(userServiceClient, times(2)).getByIds(any());
+
+        // A chamada presa termina depois e não apaga nem sobrescreve o resultado da nova
+        release.countDown();
+        Thread.sleep(50);
+        assertEquals(id, userBatchLoader.getById(id).orElseThrow().getId());
+        verify(userServiceClient, times(2)).getByIds(any());
+    }
+
+}
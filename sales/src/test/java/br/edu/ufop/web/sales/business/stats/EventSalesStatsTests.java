@@ -0,0 +1,84 @@
+package br.edu.ufop.web.sales.business.stats;
+
+import br.edu.ufop.web.sales.business.events.SaleStatusChangedEvent;
+import br.edu.ufop.web.sales.enums.EnumSaleStatus;
+import br.edu.ufop.web.sales.infrastructure.repositories.ISaleRepository;
+import br.edu.ufop.web.sales.infrastructure.repositories.projections.EventStatusCountProjection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EventSalesStatsTests {
+
+    private ISaleRepository saleRepository;
+    private EventSalesStats eventSalesStats;
+
+    private final UUID eventId = UUID.randomUUID();
+
+    @BeforeEach
+    void setup() {
+
+        saleRepository = mock(ISaleRepository.class);
+        eventSalesStats = new EventSalesStats(saleRepository);
+    }
+
+    @Test
+    void reconcileCorrectsDrift() {
+
+        eventSalesStats.onSaleCommit(SaleStatusChangedEvent.created(UUID.randomUUID(), eventId, EnumSaleStatus.EM_ABERTO));
+
+        when(saleRepository.countByEventAndStatus()).thenReturn(List.of(
+                count(EnumSaleStatus.EM_ABERTO, 3),
+                count(EnumSaleStatus.PAGO, 2)));
+
+        eventSalesStats.reconcile();
+
+        assertEquals(3L, eventSalesStats.get(eventId).get(EnumSaleStatus.EM_ABERTO));
+        assertEquals(2L, eventSalesStats.get(eventId).get(EnumSaleStatus.PAGO));
+    }
+
+    // Uma venda confirmada depois do início da consulta não está nos totais do banco e não pode sumir na reconciliação
+    @Test
+    void commitDuringReconcileIsKept() {
+
+        when(saleRepository.countByEventAndStatus()).thenReturn(List.of(count(EnumSaleStatus.EM_ABERTO, 1)));
+        eventSalesStats.reconcile();
+
+        when(saleRepository.countByEventAndStatus()).thenAnswer(invocation -> {
+            eventSalesStats.onSaleCommit(SaleStatusChangedEvent.created(UUID.randomUUID(), eventId, EnumSaleStatus.EM_ABERTO));
+            eventSalesStats.onSaleCommit(new SaleStatusChangedEvent(UUID.randomUUID(), eventId, EnumSaleStatus.EM_ABERTO, EnumSaleStatus.PAGO));
+            return List.of(count(EnumSaleStatus.EM_ABERTO, 1));
+        });
+
+        eventSalesStats.reconcile();
+
+        assertEquals(1L, eventSalesStats.get(eventId).get(EnumSaleStatus.EM_ABERTO));
+        assertEquals(1L, eventSalesStats.get(eventId).get(EnumSaleStatus.PAGO));
+    }
+
+    @Test
+    void eventWithoutSalesIsZeroed() {
+
+        when(saleRepository.countByEventAndStatus()).thenReturn(List.of(count(EnumSaleStatus.PAGO, 4)));
+        eventSalesStats.reconcile();
+
+        when(saleRepository.countByEventAndStatus()).thenReturn(List.of());
+        eventSalesStats.reconcile();
+
+        assertEquals(0L, eventSalesStats.get(eventId).get(EnumSaleStatus.PAGO));
+    }
+
+    private EventStatusCountProjection count(EnumSaleStatus status, long total) {
+        return new StatusCount(eventId, status, total);
+    }
+
+    private record StatusCount(UUID getEventId, EnumSaleStatus getStatus, Long getTotal) implements EventStatusCountProjection {
+    }
+
+}
@@ -0,0 +1,110 @@
+package br.edu.ufop.web.sales.infrastructure.entities;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Os ids devem seguir o layout do UUIDv7 e crescer, na comparação byte a byte do PostgreSQL, a cada id da mesma thread
+class TimeOrderedUuidGeneratorTests {
+
+    private static final int THREADS = 8;
+    private static final int IDS_PER_THREAD = 20_000;
+
+    @Test
+    void idsCarryVersionVariantAndTimestamp() {
+
+        long now = System.currentTimeMillis();
+        UUID id = new TimeOrderedUuidGenerator().nextId(now);
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertEquals(now, id.getMostSignificantBits() >>> 16);
+    }
+
+    // Mais ids que o contador comporta no mesmo milissegundo: o timestamp avança em vez de perder a ordem
+    @Test
+    void idsIncreaseWithinOneMillisecond() {
+
+        TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator();
+        long now = System.currentTimeMillis();
+        UUID previous = generator.nextId(now);
+
+        for (int i = 0; i < 5_000; i++) {
+            UUID id = generator.nextId(now);
+
+            assertTrue(compareAsPostgres(previous, id) < 0);
+            assertEquals(7, id.version());
+            previous = id;
+        }
+    }
+
+    @Test
+    void laterMillisecondsSortAfterEarlierOnes() {
+
+        TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator();
+        long now = System.currentTimeMillis();
+        UUID previous = generator.nextId(now);
+
+        for (int i = 1; i <= 1_000; i++) {
+            UUID id = generator.nextId(now + i);
+
+            assertTrue(compareAsPostgres(previous, id) < 0);
+            assertEquals(now + i, id.getMostSignificantBits() >>> 16);
+            previous = id;
+        }
+    }
+
+    @Test
+    void clockGoingBackwardsKeepsTheOrder() {
+
+        TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator();
+        long now = System.currentTimeMillis();
+
+        UUID before = generator.nextId(now);
+        UUID after = generator.nextId(now - 1_000);
+
+        assertTrue(compareAsPostgres(before, after) < 0);
+    }
+
+    @Test
+    void concurrentGenerationDoesNotRepeatIds() throws Exception {
+
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        try {
+            var futures = IntStream.range(0, THREADS)
+                    .mapToObj(thread -> executor.submit(() -> {
+                        for (int i = 0; i < IDS_PER_THREAD; i++) {
+                            ids.add(TimeOrderedUuidGenerator.next());
+                        }
+                    }))
+                    .toList();
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(THREADS * IDS_PER_THREAD, ids.size());
+    }
+
+    // Ordem do tipo uuid no PostgreSQL: bytes sem sinal, do mais significativo ao menos
+    private static int compareAsPostgres(UUID first, UUID second) {
+
+        int msb = Long.compareUnsigned(first.getMostSignificantBits(), second.getMostSignificantBits());
+        return msb != 0 ? msb : Long.compareUnsigned(first.getLeastSignificantBits(), second.getLeastSignificantBits());
+    }
+
+}
@@ -0,0 +1,219 @@
+package br.edu.ufop.web.sales.infrastructure.repositories;
+
+import br.edu.ufop.web.sales.business.converters.CursorConverter;
+import br.edu.ufop.web.sales.business.converters.SaleConverter;
+import br.edu.ufop.web.sales.controller.dtos.pages.CursorPageDTO;
+import br.edu.ufop.web.sales.controller.dtos.sales.SaleDTO;
+import br.edu.ufop.web.sales.controller.dtos.sales.SaleFilterDTO;
+import br.edu.ufop.web.sales.enums.EnumSaleStatus;
+import br.edu.ufop.web.sales.enums.EnumEventType;
+import br.edu.ufop.web.sales.infrastructure.entities.EventEntity;
+import br.edu.ufop.web.sales.infrastructure.entities.SaleEntity;
+import br.edu.ufop.web.sales.infrastructure.repositories.projections.SaleRowProjection;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Leituras de vendas devem custar uma única consulta, independente da quantidade de vendas e de eventos
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        // Os clientes Feign registrados pela aplicação não fazem parte do slice JPA
+        "spring.main.lazy-initialization=true",
+        // As migrações são escritas para o PostgreSQL; no H2 o esquema vem das entidades
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class SaleReadStatementCountTests {
+
+    private static final int EVENTS = 5;
+    private static final int SALES_PER_EVENT = 20;
+
+    @Autowired
+    private ISaleRepository saleRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private UUID firstSaleId;
+    private UUID firstEventId;
+
+    @BeforeEach
+    void setup() {
+
+        for (int eventIndex = 0; eventIndex < EVENTS; eventIndex++) {
+
+            EventEntity eventEntity = testEntityManager.persist(EventEntity.builder()
+                    .description("Evento " + eventIndex)
+                    .type(EnumEventType.SHOW)
+                    .dateTime(LocalDateTime.now().plusDays(eventIndex))
+                    .price(50f)
+                    .capacity(1000)
+                    .build());
+
+            if (firstEventId == null) {
+                firstEventId = eventEntity.getId();
+            }
+
+            for (int saleIndex = 0; saleIndex < SALES_PER_EVENT; saleIndex++) {
+
+                SaleEntity saleEntity = testEntityManager.persist(SaleEntity.builder()
+                        .userId(UUID.randomUUID())
+                        .event(eventEntity)
+                        .build());
+
+                if (firstSaleId == null) {
+                    firstSaleId = saleEntity.getId();
+                }
+            }
+        }
+
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void pageOfSalesIsOneStatement() {
+
+        int limit = EVENTS * SALES_PER_EVENT;
+
+        List<SaleRowProjection> rows = saleRepository.findFirstPage(Limit.of(limit + 1));
+        CursorPageDTO<SaleDTO> page = CursorConverter.toPage(rows, limit, SaleConverter::toDTO,
+                SaleRowProjection::createdAt, SaleRowProjection::id);
+
+        assertEquals(limit, page.getItems().size());
+        page.getItems().forEach(saleDTO -> assertNotNull(saleDTO.getEvent().getDescription()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void saleByIdIsOneStatement() {
+
+        SaleDTO saleDTO = SaleConverter.toDTO(saleRepository.findRowById(firstSaleId).orElseThrow());
+
+        assertEquals(firstSaleId, saleDTO.getId());
+        assertNotNull(saleDTO.getEvent().getId());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void streamOfSalesIsOneStatement() {
+
+        try (Stream<SaleRowProjection> rows = saleRepository.streamAll()) {
+            assertEquals(EVENTS * SALES_PER_EVENT, rows.map(SaleConverter::toDTO).count());
+        }
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    // Percorre as vendas de um evento em páginas de 7 pelo cursor (dateTime, id): uma consulta por página, sem repetições
+    @Test
+    void filteredPagesAreOneStatementEach() {
+
+        SaleFilterDTO filter = SaleFilterDTO.builder().eventId(firstEventId).status(EnumSaleStatus.EM_ABERTO).build();
+        int limit = 7;
+
+        Set<UUID> seen = new HashSet<>();
+        int pages = 0;
+        String next = null;
+
+        do {
+            List<SaleRowProjection> rows;
+
+            if (next == null) {
+                rows = saleRepository.findFilteredPage(filter, null, null, limit + 1);
+            } else {
+                CursorConverter.Cursor position = CursorConverter.decode(next);
+                rows = saleRepository.findFilteredPage(filter, position.timestamp(), position.id(), limit + 1);
+            }
+
+            CursorPageDTO<SaleDTO> page = CursorConverter.toPage(rows, limit, SaleConverter::toDTO,
+                    SaleRowProjection::dateTime, SaleRowProjection::id);
+
+            page.getItems().forEach(saleDTO -> {
+                assertEquals(firstEventId, saleDTO.getEvent().getId());
+                assertTrue(seen.add(saleDTO.getId()));
+            });
+
+            next = page.getNext();
+            pages++;
+
+        } while (next != null);
+
+        assertEquals(SALES_PER_EVENT, seen.size());
+        assertEquals(pages, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    // Percorre todas as vendas em páginas de 9 pelo cursor (createdAt, id): uma consulta por página, sem repetições
+    @Test
+    void pagesAreOneStatementEach() {
+
+        int limit = 9;
+
+        Set<UUID> seen = new HashSet<>();
+        int pages = 0;
+        String next = null;
+
+        do {
+            List<SaleRowProjection> rows;
+
+            if (next == null) {
+                rows = saleRepository.findFirstPage(Limit.of(limit + 1));
+            } else {
+                CursorConverter.Cursor position = CursorConverter.decode(next);
+                rows = saleRepository.findPageAfter(position.timestamp(), position.id(), Limit.of(limit + 1));
+            }
+
+            CursorPageDTO<SaleDTO> page = CursorConverter.toPage(rows, limit, SaleConverter::toDTO,
+                    SaleRowProjection::createdAt, SaleRowProjection::id);
+
+            page.getItems().forEach(saleDTO -> assertTrue(seen.add(saleDTO.getId())));
+
+            next = page.getNext();
+            pages++;
+
+        } while (next != null);
+
+        assertEquals(EVENTS * SALES_PER_EVENT, seen.size());
+        assertEquals(pages, statistics.getPrepareStatementCount());
+    }
+
+    // Com a associação lazy, carregar a venda não busca o evento
+    @Test
+    void saleEntityDoesNotLoadEvent() {
+
+        SaleEntity saleEntity = saleRepository.findById(firstSaleId).orElseThrow();
+
+        assertNotNull(saleEntity.getEvent().getId());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getEntityLoadCount());
+    }
+
+}
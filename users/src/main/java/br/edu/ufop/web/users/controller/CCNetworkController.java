@@ -22,6 +22,12 @@ public class CCNetworkController {
         return ResponseEntity.ok(service.getAll());
     }
 
+    @PostMapping("/reload")
+    public ResponseEntity<List<CreditCardNetworkDTO>> reload(){
+
+        return ResponseEntity.ok(service.reload());
+    }
+
     @PostMapping
     public ResponseEntity<CreditCardNetworkDTO> create(@RequestBody CreateCreditCardNetworkDTO dto){
 
@@ -4,12 +4,21 @@ import br.edu.ufop.web.users.dto.CreateUserDTO;
 import br.edu.ufop.web.users.dto.DeleteUserDTO;
 import br.edu.ufop.web.users.dto.UpdateUserDTO;
 import br.edu.ufop.web.users.dto.UserDTO;
+import br.edu.ufop.web.users.enums.EnumImportFormat;
+import br.edu.ufop.web.users.service.UserImportService;
 import br.edu.ufop.web.users.service.UserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.aspectj.apache.bcel.Repository;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -20,6 +29,8 @@ import java.util.UUID;
 public class UserController {
 
     private final UserService userService;
+    private final UserImportService userImportService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping("/status")
     public ResponseEntity<String> getStatus() {
@@ -50,10 +61,41 @@ public class UserController {
         return ResponseEntity.ok(userDTOOptional.get());
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<UserDTO>> getByIds(@RequestBody List<UUID> ids) {
+
+        return ResponseEntity.ok(userService.getByIds(ids));
+    }
+
+    // Corpo CSV ou NDJSON lido em streaming; a resposta traz, em NDJSON, os erros por linha e o progresso a cada lote
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE}, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> importUsers(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                                             InputStream inputStream) {
+
+        EnumImportFormat format = EnumImportFormat.fromMediaType(contentType.getType() + "/" + contentType.getSubtype());
+
+        StreamingResponseBody body = outputStream -> userImportService.importUsers(inputStream, format, event -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(event));
+                outputStream.write('\n');
+
+                if (!"error".equals(event.type())) {
+                    outputStream.flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     @GetMapping("/name/{name}")
-    public ResponseEntity<List<UserDTO>> getByName(@PathVariable(value = "name") String name){
+    public ResponseEntity<List<UserDTO>> getByName(@PathVariable(value = "name") String name,
+                                                   @RequestParam(required = false) Integer limit,
+                                                   @RequestParam(required = false) Integer offset){
 
-        List<UserDTO> userDTOList = userService.getByName(name);
+        List<UserDTO> userDTOList = userService.getByName(name, limit, offset);
 
         return userDTOList.isEmpty() ? ResponseEntity.notFound().build() : ResponseEntity.ok(userDTOList);
     }
@@ -33,4 +33,10 @@ public class CCNetworkConverter {
 
         return CCNetworkDomain.builder().id(ccNetworkEntity.getId()).name(ccNetworkEntity.getName()).build();
     }
+
+    // DTO de saída (snapshot em memória) para o domínio
+    public static CCNetworkDomain toDomain(CreditCardNetworkDTO creditCardNetworkDTO) {
+
+        return CCNetworkDomain.builder().id(creditCardNetworkDTO.id()).name(creditCardNetworkDTO.name()).build();
+    }
 }
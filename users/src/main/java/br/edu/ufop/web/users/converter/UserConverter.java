@@ -41,7 +41,6 @@ public class UserConverter {
     //Entidade para o DTO de saída
     public static UserDTO toUserDTO(UserEntity userEntity) {
 
-        UserDomain userDomain = toDomain(userEntity);
         return new UserDTO(userEntity.getId(), userEntity.getName(), userEntity.getEmail());
     }
 
@@ -5,87 +5,101 @@ import br.edu.ufop.web.users.domain.UserDomain;
 import br.edu.ufop.web.users.domain.port.CCNRepositoryPort;
 import br.edu.ufop.web.users.enums.EnumUserType;
 import br.edu.ufop.web.users.exception.UseCaseException;
-import lombok.AllArgsConstructor;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
-import lombok.Setter;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+/**
+ * Validação da criação de usuário. Não guarda estado entre chamadas: o domínio chega por parâmetro e
+ * o resultado é um novo UserDomain, de modo que a mesma instância atende cadastros simultâneos.
+ */
 @Component
 @RequiredArgsConstructor
 public class CreateUserUseCase {
 
-    @Setter
-    private UserDomain userDomain;
     private final CCNRepositoryPort repositoryPort;
 
-    public void validate(){
+    @Timed(value = "users.usecase", histogram = true)
+    public UserDomain validate(UserDomain userDomain){
+
+        List<String> violations = new ArrayList<>();
 
         //Validações conforme regra de negócio para a criação do usuário
-        validateName();
+        //As regras são independentes: todas são executadas e as violações são devolvidas juntas
+        validateName(userDomain, violations);
+        CCNetworkDomain ccNetwork = validateCCNetworkId(userDomain, violations);
+        validateEmail(userDomain, violations);
+        validatePassword(userDomain, violations);
+
+        if(!violations.isEmpty()){
+
+            throw new UseCaseException(violations);
+        }
 
-        //Demais validações
-        validateCCNetworkId();
-        validateEmail();
-        validatePassword();
-        validateUserType();
+        return userDomain.toBuilder()
+                .ccNetwork(ccNetwork)
+                .type(resolveUserType(userDomain))
+                .build();
     }
 
-    private void validateName(){
+    private void validateName(UserDomain userDomain, List<String> violations){
 
-        if(this.userDomain.getName() == null){
+        if(userDomain.getName() == null){
 
-            throw new UseCaseException("Name is null");
+            violations.add("Name is null");
         }
     }
 
-    private void validateCCNetworkId(){
+    private CCNetworkDomain validateCCNetworkId(UserDomain userDomain, List<String> violations){
 
-        if(this.userDomain.getCcNetwork() == null){
+        if(userDomain.getCcNetwork() == null){
 
-            throw new UseCaseException("Invalid Credit Crad Network");
+            violations.add("Invalid Credit Crad Network");
+            return null;
         }
 
-        UUID id =  this.userDomain.getCcNetwork().getId();
+        UUID id = userDomain.getCcNetwork().getId();
 
         if(id == null){
 
-            throw new UseCaseException("Invalid Credit Crad Network ID is null");
+            violations.add("Invalid Credit Crad Network ID is null");
+            return null;
         }
 
         Optional<CCNetworkDomain> domainOptional = repositoryPort.findById(id);
 
         if(domainOptional.isEmpty()){
 
-            throw new UseCaseException("Invalid Credit Card Network ID does not exist");
+            violations.add("Invalid Credit Card Network ID does not exist");
+            return null;
         }
 
-        this.userDomain.setCcNetwork(domainOptional.get());
+        return domainOptional.get();
     }
 
-    private void validateEmail(){
+    private void validateEmail(UserDomain userDomain, List<String> violations){
 
-        if(this.userDomain.getEmail() == null){
+        if(userDomain.getEmail() == null){
 
-            throw new UseCaseException("Email is null");
+            violations.add("Email is null");
         }
     }
 
-    private void validatePassword(){
+    private void validatePassword(UserDomain userDomain, List<String> violations){
 
-        if(this.userDomain.getPassword() == null){
+        if(userDomain.getPassword() == null){
 
-            throw new UseCaseException("Password is null");
+            violations.add("Password is null");
         }
     }
 
-    private void validateUserType(){
-
-        if(this.userDomain.getType() == null){
+    private EnumUserType resolveUserType(UserDomain userDomain){
 
-            this.userDomain.setType(EnumUserType.CUSTOMER);
-        }
+        return userDomain.getType() == null ? EnumUserType.CUSTOMER : userDomain.getType();
     }
 }
@@ -0,0 +1,22 @@
+package br.edu.ufop.web.users.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+// Linha da resposta NDJSON de POST /users/import: erro de uma linha do arquivo, progresso após cada lote ou resumo final
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record UserImportEventDTO(String type, Long line, List<String> errors, Long processed, Long imported, Long failed) {
+
+    public static UserImportEventDTO error(long line, List<String> errors) {
+        return new UserImportEventDTO("error", line, errors, null, null, null);
+    }
+
+    public static UserImportEventDTO progress(long processed, long imported, long failed) {
+        return new UserImportEventDTO("progress", null, null, processed, imported, failed);
+    }
+
+    public static UserImportEventDTO done(long processed, long imported, long failed) {
+        return new UserImportEventDTO("done", null, null, processed, imported, failed);
+    }
+}
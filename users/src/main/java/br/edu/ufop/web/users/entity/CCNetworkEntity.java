@@ -6,10 +6,7 @@ import lombok.*;
 import java.util.UUID;
 
 @Entity
-@Table(name = "tb_credit_card_network",
-        indexes = {
-            @Index(name = "idx_ccn_name", columnList = "name ASC")
-        })
+@Table(name = "tb_credit_card_network")
 
 @Getter
 @Setter
@@ -19,7 +16,7 @@ import java.util.UUID;
 public class CCNetworkEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @TimeOrderedUuid
     private UUID id;
 
     @Column(nullable = false, unique = true, columnDefinition = "varchar(100)")
@@ -0,0 +1,113 @@
+package br.edu.ufop.web.users.entity;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.EnumSet;
+import java.util.UUID;
+
+/**
+ * Gera UUIDs versão 7 (RFC 9562): 48 bits de timestamp em milissegundos, 12 bits de contador e 62 bits aleatórios.
+ * Como o PostgreSQL compara UUIDs byte a byte, ids novos caem sempre no fim do índice da chave primária,
+ * em vez de espalhados por páginas aleatórias da B-tree.
+ * O estado fica dividido em faixas independentes, escolhidas pela thread, para que inserts simultâneos não
+ * disputem o mesmo lock. Dentro de uma faixa (e portanto de uma thread) os ids são estritamente crescentes,
+ * mesmo no mesmo milissegundo ou com o relógio voltando.
+ * Existe uma cópia idêntica em sales: os serviços são implantados separadamente e não compartilham módulo.
+ */
+public class TimeOrderedUuidGenerator implements BeforeExecutionGenerator {
+
+    private static final int STRIPES = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors())) << 1;
+
+    private static final int MAX_SEQUENCE = 0xFFF;
+
+    private static final TimeOrderedUuidGenerator SHARED = new TimeOrderedUuidGenerator();
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    public TimeOrderedUuidGenerator() {
+
+        for (int stripe = 0; stripe < STRIPES; stripe++) {
+            try {
+                stripes[stripe] = new Stripe(SecureRandom.getInstance("DRBG"));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("DRBG indisponível para gerar ids", e);
+            }
+        }
+    }
+
+    public static UUID next() {
+        return SHARED.nextId(System.currentTimeMillis());
+    }
+
+    UUID nextId(long epochMillis) {
+        return stripes[homeStripe()].next(epochMillis);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return nextId(System.currentTimeMillis());
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+
+    // Fixa por thread: a mesma thread sempre usa a mesma faixa
+    private static int homeStripe() {
+
+        int hash = System.identityHashCode(Thread.currentThread());
+        return (hash ^ (hash >>> 16)) & (STRIPES - 1);
+    }
+
+    private static final class Stripe {
+
+        private final SecureRandom random;
+        private final byte[] bytes = new byte[10];
+
+        private long lastMillis = Long.MIN_VALUE;
+        private int sequence;
+
+        private Stripe(SecureRandom random) {
+            this.random = random;
+        }
+
+        synchronized UUID next(long epochMillis) {
+
+            random.nextBytes(bytes);
+
+            if (epochMillis > lastMillis) {
+                lastMillis = epochMillis;
+                sequence = initialSequence();
+            } else if (++sequence > MAX_SEQUENCE) {
+                // Contador esgotado no mesmo milissegundo: avança o timestamp em vez de repetir ou voltar
+                lastMillis++;
+                sequence = initialSequence();
+            }
+
+            // unix_ts_ms (48) | versão 7 (4) | contador (12)
+            long msb = (lastMillis << 16) | 0x7000L | sequence;
+
+            // variante 10 (2) | rand_b (62)
+            long lsb = 0;
+            for (int i = 2; i < 10; i++) {
+                lsb = (lsb << 8) | (bytes[i] & 0xFFL);
+            }
+            lsb = (lsb & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+
+            return new UUID(msb, lsb);
+        }
+
+        // Começa aleatório na metade inferior: sobram ao menos 2048 ids por milissegundo antes de esgotar
+        private int initialSequence() {
+            return ((bytes[0] & 0x07) << 8) | (bytes[1] & 0xFF);
+        }
+
+    }
+
+}
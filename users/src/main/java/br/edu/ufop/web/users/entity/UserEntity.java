@@ -19,7 +19,7 @@ import java.util.UUID;
 public class UserEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @TimeOrderedUuid
     private UUID id;
 
     @Column(nullable = false)
@@ -32,8 +32,8 @@ public class UserEntity {
 
     private String creditCardNumber;
 
-    // Credit card network
-    @ManyToOne
+    // Credit card network; lazy: as leituras de UserDTO não precisam da bandeira
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "credit_card_network_id")
     private CCNetworkEntity ccNetwork;
 
@@ -1,7 +1,21 @@
 package br.edu.ufop.web.users.exception;
 
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
 public class UseCaseException extends RuntimeException {
+
+    private final List<String> violations;
+
     public UseCaseException(String message) {
         super(message);
+        this.violations = List.of(message);
+    }
+
+    public UseCaseException(List<String> violations) {
+        super(String.join("; ", violations));
+        this.violations = List.copyOf(violations);
     }
 }
@@ -1,8 +1,13 @@
 package br.edu.ufop.web.users.repository;
 
+import br.edu.ufop.web.users.dto.UserDTO;
 import br.edu.ufop.web.users.entity.UserEntity;
+import br.edu.ufop.web.users.repository.projections.UserSummaryProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -10,5 +15,58 @@ import java.util.UUID;
 public interface IUserRepository extends JpaRepository<UserEntity, UUID> {
 
     Optional<UserEntity> findByName(String name);
-    List<UserEntity> findAllByNameContainingIgnoreCase(String name);
+
+    // Leituras de UserDTO direto das colunas: sem JOIN com a bandeira e sem instanciar UserEntity
+    @Query("SELECT new br.edu.ufop.web.users.dto.UserDTO(u.id, u.name, u.email) FROM UserEntity u")
+    List<UserDTO> findAllUserDTOs();
+
+    @Query("SELECT new br.edu.ufop.web.users.dto.UserDTO(u.id, u.name, u.email) FROM UserEntity u " +
+            "WHERE u.id = :id")
+    Optional<UserDTO> findUserDTOById(@Param("id") UUID id);
+
+    @Query("SELECT new br.edu.ufop.web.users.dto.UserDTO(u.id, u.name, u.email) FROM UserEntity u " +
+            "WHERE u.id IN :ids")
+    List<UserDTO> findUserDTOsByIds(@Param("ids") Collection<UUID> ids);
+
+    // Termos curtos: nomes que começam pelo termo, lidos de idx_users_name_c_id já na ordem (nome, id)
+    @Query(value = """
+            SELECT u.id AS id, u.name AS name, u.email AS email
+            FROM tb_users u
+            WHERE lower(u.name) COLLATE "C" LIKE :prefix ESCAPE '\\'
+            ORDER BY lower(u.name) COLLATE "C", u.id
+            LIMIT :limit OFFSET :offset
+            """, nativeQuery = true)
+    List<UserSummaryProjection> searchByPrefix(@Param("prefix") String prefix,
+                                               @Param("limit") int limit,
+                                               @Param("offset") int offset);
+
+    // Nomes que começam pelo termo primeiro (por nome), depois os que apenas o contêm, dos mais parecidos aos menos
+    // (distância de trigramas). Cada faixa lê no máximo :candidates linhas de um índice já ordenado
+    // (idx_users_name_c_id e a busca KNN em idx_users_name_trgm_gist); só esses candidatos são ordenados e paginados
+    @Query(value = """
+            SELECT c.id AS id, c.name AS name, c.email AS email
+            FROM (
+                (SELECT u.id, u.name, u.email, 0 AS tier, CAST(0 AS real) AS distance,
+                        lower(u.name) COLLATE "C" AS sort_name
+                 FROM tb_users u
+                 WHERE lower(u.name) COLLATE "C" LIKE :prefix ESCAPE '\\'
+                 ORDER BY lower(u.name) COLLATE "C", u.id
+                 LIMIT :candidates)
+                UNION ALL
+                (SELECT u.id, u.name, u.email, 1, lower(u.name) <-> CAST(:term AS text),
+                        lower(u.name) COLLATE "C"
+                 FROM tb_users u
+                 WHERE lower(u.name) LIKE :pattern ESCAPE '\\' AND lower(u.name) NOT LIKE :prefix ESCAPE '\\'
+                 ORDER BY lower(u.name) <-> CAST(:term AS text), u.id
+                 LIMIT :candidates)
+            ) c
+            ORDER BY c.tier, c.distance, c.sort_name, c.id
+            LIMIT :limit OFFSET :offset
+            """, nativeQuery = true)
+    List<UserSummaryProjection> searchByName(@Param("term") String term,
+                                             @Param("pattern") String pattern,
+                                             @Param("prefix") String prefix,
+                                             @Param("candidates") int candidates,
+                                             @Param("limit") int limit,
+                                             @Param("offset") int offset);
 }
@@ -1,10 +1,8 @@
 package br.edu.ufop.web.users.repository.adapter;
 
-import br.edu.ufop.web.users.converter.CCNetworkConverter;
 import br.edu.ufop.web.users.domain.CCNetworkDomain;
 import br.edu.ufop.web.users.domain.port.CCNRepositoryPort;
-import br.edu.ufop.web.users.entity.CCNetworkEntity;
-import br.edu.ufop.web.users.repository.ICreditCardNetworkRepository;
+import br.edu.ufop.web.users.repository.cache.CCNetworkCatalog;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -15,20 +13,12 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class CCNRepositoryAdapter implements CCNRepositoryPort {
 
-    private final ICreditCardNetworkRepository repositoryJpa;
+    // As bandeiras são consultadas no catálogo em memória, sem acesso ao banco
+    private final CCNetworkCatalog catalog;
 
     @Override
     public Optional<CCNetworkDomain> findById(UUID id) {
 
-        Optional<CCNetworkEntity> ccNetworkEntityOptional = repositoryJpa.findById(id);
-
-        if(ccNetworkEntityOptional.isEmpty()){
-
-            return Optional.empty();
-        }
-
-        CCNetworkDomain domain = CCNetworkConverter.toDomain(ccNetworkEntityOptional.get());
-
-        return Optional.of(domain);
+        return catalog.findById(id);
     }
 }
@@ -0,0 +1,113 @@
+package br.edu.ufop.web.users.repository.cache;
+
+import br.edu.ufop.web.users.converter.CCNetworkConverter;
+import br.edu.ufop.web.users.domain.CCNetworkDomain;
+import br.edu.ufop.web.users.dto.CreditCardNetworkDTO;
+import br.edu.ufop.web.users.repository.ICreditCardNetworkRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Cópia em memória de tb_credit_card_network, carregada na inicialização.
+ * As leituras usam um snapshot imutável sem travas; recargas e inclusões montam um snapshot novo
+ * e o trocam de uma só vez (copy-on-write), então um leitor nunca vê um estado parcial.
+ */
+@Slf4j
+@Component
+public class CCNetworkCatalog {
+
+    private final ICreditCardNetworkRepository repository;
+    private final Timer refreshTimer;
+    private final Counter refreshFailures;
+
+    private volatile Snapshot snapshot = Snapshot.of(List.of());
+
+    public CCNetworkCatalog(ICreditCardNetworkRepository repository, MeterRegistry meterRegistry) {
+
+        this.repository = repository;
+        this.refreshTimer = Timer.builder("users.ccn.refresh")
+                .description("Recargas do catálogo de bandeiras a partir do banco")
+                .register(meterRegistry);
+        this.refreshFailures = Counter.builder("users.ccn.refresh.failures")
+                .register(meterRegistry);
+
+        Gauge.builder("users.ccn.size", this, catalog -> catalog.snapshot.networks().size())
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void load() {
+        reload();
+    }
+
+    // Recarga periódica: bandeiras cadastradas por outra instância do serviço
+    @Scheduled(initialDelayString = "${users.ccn.refresh-interval:PT5M}", fixedDelayString = "${users.ccn.refresh-interval:PT5M}")
+    public void scheduledReload() {
+
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            refreshFailures.increment();
+            log.warn("Could not refresh the credit card network catalog: {}", e.getMessage());
+        }
+    }
+
+    public synchronized List<CreditCardNetworkDTO> reload() {
+
+        Snapshot loaded = refreshTimer.record(() -> Snapshot.of(repository.findAll().stream()
+                .map(CCNetworkConverter::toDto)
+                .toList()));
+
+        snapshot = loaded;
+        return loaded.networks();
+    }
+
+    // Inclui a bandeira recém-gravada sem voltar ao banco
+    public synchronized void put(CreditCardNetworkDTO network) {
+
+        List<CreditCardNetworkDTO> networks = new ArrayList<>(snapshot.networks());
+        networks.removeIf(current -> current.id().equals(network.id()));
+        networks.add(network);
+
+        snapshot = Snapshot.of(networks);
+    }
+
+    public List<CreditCardNetworkDTO> getAll() {
+        return snapshot.networks();
+    }
+
+    // O domínio é mutável: cada consulta recebe uma instância nova
+    public Optional<CCNetworkDomain> findById(UUID id) {
+
+        return Optional.ofNullable(snapshot.byId().get(id)).map(CCNetworkConverter::toDomain);
+    }
+
+    private record Snapshot(List<CreditCardNetworkDTO> networks, Map<UUID, CreditCardNetworkDTO> byId) {
+
+        static Snapshot of(List<CreditCardNetworkDTO> networks) {
+
+            List<CreditCardNetworkDTO> sorted = networks.stream()
+                    .sorted(Comparator.comparing(CreditCardNetworkDTO::name))
+                    .toList();
+
+            return new Snapshot(sorted, sorted.stream()
+                    .collect(Collectors.toUnmodifiableMap(CreditCardNetworkDTO::id, Function.identity())));
+        }
+    }
+
+}
@@ -0,0 +1,12 @@
+package br.edu.ufop.web.users.repository.projections;
+
+import java.util.UUID;
+
+public interface UserSummaryProjection {
+
+    UUID getId();
+
+    String getName();
+
+    String getEmail();
+}
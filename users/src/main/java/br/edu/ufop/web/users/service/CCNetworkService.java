@@ -6,6 +6,7 @@ import br.edu.ufop.web.users.dto.CreateCreditCardNetworkDTO;
 import br.edu.ufop.web.users.dto.CreditCardNetworkDTO;
 import br.edu.ufop.web.users.entity.CCNetworkEntity;
 import br.edu.ufop.web.users.repository.ICreditCardNetworkRepository;
+import br.edu.ufop.web.users.repository.cache.CCNetworkCatalog;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -16,12 +17,18 @@ import java.util.List;
 public class CCNetworkService {
 
     private final ICreditCardNetworkRepository repository;
+    private final CCNetworkCatalog catalog;
 
-    //Get all
+    //Get all - servido pelo catálogo em memória
     public List<CreditCardNetworkDTO> getAll() {
 
-        List<CCNetworkEntity> lista = repository.findAll();
-        return lista.stream().map(CCNetworkConverter::toDto).toList();
+        return catalog.getAll();
+    }
+
+    //Recarrega o catálogo a partir do banco
+    public List<CreditCardNetworkDTO> reload() {
+
+        return catalog.reload();
     }
 
     //Create
@@ -45,7 +52,12 @@ public class CCNetworkService {
         CCNetworkEntity entity = CCNetworkConverter.toEntity(domain);
 
         //Invocar o repositório para a persistência
-        return CCNetworkConverter.toDto(repository.save(entity));
+        CreditCardNetworkDTO dto = CCNetworkConverter.toDto(repository.save(entity));
+
+        //Publica a nova bandeira no catálogo em memória (troca atômica do snapshot)
+        catalog.put(dto);
+
+        return dto;
     }
 
 }
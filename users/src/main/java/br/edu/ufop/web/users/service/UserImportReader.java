@@ -0,0 +1,160 @@
+package br.edu.ufop.web.users.service;
+
+import br.edu.ufop.web.users.dto.CreateUserDTO;
+import br.edu.ufop.web.users.enums.EnumImportFormat;
+import br.edu.ufop.web.users.exception.UseCaseException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Lê o arquivo de importação uma linha por vez, sem carregá-lo inteiro na memória.
+ * CSV exige cabeçalho com os nomes dos campos de {@link CreateUserDTO} (em qualquer ordem);
+ * NDJSON traz um objeto JSON por linha.
+ */
+class UserImportReader {
+
+    private static final List<String> REQUIRED_CSV_COLUMNS = List.of("name", "email", "password");
+
+    record Row(long line, CreateUserDTO user, String error) {
+    }
+
+    private final BufferedReader reader;
+    private final EnumImportFormat format;
+    private final ObjectMapper objectMapper;
+
+    private Map<String, Integer> csvColumns;
+    private long line;
+
+    UserImportReader(BufferedReader reader, EnumImportFormat format, ObjectMapper objectMapper) {
+
+        this.reader = reader;
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    long line() {
+        return line;
+    }
+
+    // Próxima linha não vazia do arquivo ou null no fim
+    Row next() throws IOException {
+
+        String text;
+
+        do {
+            text = reader.readLine();
+            line++;
+
+            if (text == null) {
+                return null;
+            }
+        } while (text.isBlank());
+
+        if (format == EnumImportFormat.NDJSON) {
+            return parseJson(text);
+        }
+
+        if (csvColumns == null) {
+            csvColumns = parseHeader(text);
+            return next();
+        }
+
+        return parseCsv(text);
+    }
+
+    private Row parseJson(String text) {
+
+        try {
+            return new Row(line, objectMapper.readValue(text, CreateUserDTO.class), null);
+        } catch (JsonProcessingException e) {
+            return new Row(line, null, "Invalid JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    private Map<String, Integer> parseHeader(String text) {
+
+        List<String> header = splitCsv(text);
+        Map<String, Integer> columns = new HashMap<>();
+
+        for (int index = 0; index < header.size(); index++) {
+            columns.put(header.get(index).strip().toLowerCase(Locale.ROOT), index);
+        }
+
+        if (!columns.keySet().containsAll(REQUIRED_CSV_COLUMNS)) {
+            throw new UseCaseException("CSV header must contain at least name, email and password.");
+        }
+
+        return columns;
+    }
+
+    private Row parseCsv(String text) {
+
+        List<String> values = splitCsv(text);
+
+        try {
+            String networkId = column(values, "creditcardnetworkid");
+
+            CreateUserDTO user = new CreateUserDTO(column(values, "name"), column(values, "email"), column(values, "password"),
+                    column(values, "creditcardnumber"), column(values, "city"), networkId == null ? null : UUID.fromString(networkId));
+
+            return new Row(line, user, null);
+        } catch (IllegalArgumentException e) {
+            return new Row(line, null, "Invalid credit card network id.");
+        }
+    }
+
+    private String column(List<String> values, String name) {
+
+        Integer index = csvColumns.get(name);
+
+        if (index == null || index >= values.size() || values.get(index).isEmpty()) {
+            return null;
+        }
+
+        return values.get(index);
+    }
+
+    // Separação por vírgulas com suporte a campos entre aspas ("" representa uma aspa)
+    private static List<String> splitCsv(String text) {
+
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int index = 0; index < text.length(); index++) {
+
+            char character = text.charAt(index);
+
+            if (quoted) {
+                if (character == '"' && index + 1 < text.length() && text.charAt(index + 1) == '"') {
+                    current.append('"');
+                    index++;
+                } else if (character == '"') {
+                    quoted = false;
+                } else {
+                    current.append(character);
+                }
+            } else if (character == '"') {
+                quoted = true;
+            } else if (character == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(character);
+            }
+        }
+
+        values.add(current.toString());
+        return values;
+    }
+
+}
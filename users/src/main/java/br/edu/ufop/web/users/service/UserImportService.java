@@ -0,0 +1,151 @@
+package br.edu.ufop.web.users.service;
+
+import br.edu.ufop.web.users.converter.UserConverter;
+import br.edu.ufop.web.users.domain.usecase.CreateUserUseCase;
+import br.edu.ufop.web.users.dto.UserImportEventDTO;
+import br.edu.ufop.web.users.entity.UserEntity;
+import br.edu.ufop.web.users.enums.EnumImportFormat;
+import br.edu.ufop.web.users.exception.UseCaseException;
+import br.edu.ufop.web.users.repository.IUserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Importação em massa de usuários. O arquivo é lido linha a linha; as linhas válidas são gravadas
+ * em lotes, cada lote em sua própria transação e enviado ao banco como um batch JDBC.
+ * Apenas o lote corrente fica na memória.
+ */
+@Service
+public class UserImportService {
+
+    private final IUserRepository repository;
+    private final CreateUserUseCase useCase;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+
+    public UserImportService(IUserRepository repository,
+                             CreateUserUseCase useCase,
+                             TransactionTemplate transactionTemplate,
+                             EntityManager entityManager,
+                             ObjectMapper objectMapper,
+                             @Value("${users.import.batch-size:500}") int batchSize) {
+
+        this.repository = repository;
+        this.useCase = useCase;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+    }
+
+    private record PendingUser(long line, UserEntity entity) {
+    }
+
+    private static final class Counters {
+        private long processed;
+        private long imported;
+        private long failed;
+    }
+
+    @Timed(value = "users.import", histogram = true)
+    public void importUsers(InputStream inputStream, EnumImportFormat format, Consumer<UserImportEventDTO> listener) throws IOException {
+
+        Counters counters = new Counters();
+        List<PendingUser> batch = new ArrayList<>(batchSize);
+
+        BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        UserImportReader reader = new UserImportReader(bufferedReader, format, objectMapper);
+
+        try {
+            UserImportReader.Row row;
+
+            while ((row = reader.next()) != null) {
+
+                counters.processed++;
+
+                if (row.error() != null) {
+                    counters.failed++;
+                    listener.accept(UserImportEventDTO.error(row.line(), List.of(row.error())));
+                    continue;
+                }
+
+                // Mesmas regras de POST /users; a bandeira vem do catálogo em memória
+                try {
+                    UserEntity entity = UserConverter.toUserEntity(useCase.validate(UserConverter.toUserDomain(row.user())));
+                    batch.add(new PendingUser(row.line(), entity));
+                } catch (UseCaseException e) {
+                    counters.failed++;
+                    listener.accept(UserImportEventDTO.error(row.line(), e.getViolations()));
+                }
+
+                if (batch.size() == batchSize) {
+                    saveBatch(batch, counters, listener);
+                    listener.accept(UserImportEventDTO.progress(counters.processed, counters.imported, counters.failed));
+                }
+            }
+        } catch (UseCaseException e) {
+            // Cabeçalho CSV inválido: nada mais pode ser lido
+            listener.accept(UserImportEventDTO.error(reader.line(), e.getViolations()));
+        }
+
+        if (!batch.isEmpty()) {
+            saveBatch(batch, counters, listener);
+        }
+
+        listener.accept(UserImportEventDTO.done(counters.processed, counters.imported, counters.failed));
+    }
+
+    private void saveBatch(List<PendingUser> batch, Counters counters, Consumer<UserImportEventDTO> listener) {
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> persist(batch.stream().map(PendingUser::entity).toList()));
+            counters.imported += batch.size();
+        } catch (RuntimeException batchException) {
+
+            // Lote rejeitado pelo banco: regrava linha a linha para apontar somente as linhas com problema
+            for (PendingUser pendingUser : batch) {
+
+                pendingUser.entity().setId(null);
+
+                try {
+                    transactionTemplate.executeWithoutResult(status -> persist(List.of(pendingUser.entity())));
+                    counters.imported++;
+                } catch (RuntimeException rowException) {
+                    counters.failed++;
+                    listener.accept(UserImportEventDTO.error(pendingUser.line(),
+                            List.of(NestedExceptionUtils.getMostSpecificCause(rowException).getMessage())));
+                }
+            }
+        }
+
+        batch.clear();
+    }
+
+    private void persist(List<UserEntity> entities) {
+
+        // O tamanho do batch JDBC acompanha o lote configurado para a importação
+        entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+
+        repository.saveAll(entities);
+        repository.flush();
+        entityManager.clear();
+    }
+
+}
@@ -10,10 +10,13 @@ import br.edu.ufop.web.users.dto.UserDTO;
 import br.edu.ufop.web.users.entity.UserEntity;
 import br.edu.ufop.web.users.exception.UseCaseException;
 import br.edu.ufop.web.users.repository.IUserRepository;
+import br.edu.ufop.web.users.repository.projections.UserSummaryProjection;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -21,22 +24,26 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class UserService {
 
+    public static final int MAX_BATCH_SIZE = 500;
+    public static final int DEFAULT_SEARCH_LIMIT = 20;
+    public static final int MAX_SEARCH_LIMIT = 100;
+    private static final int MIN_SUBSTRING_LENGTH = 3;
+    // offset + limit: cada faixa da busca lê no máximo esse número de candidatos do índice
+    public static final int MAX_SEARCH_WINDOW = 1000;
+
     private final IUserRepository repository;
     private final CreateUserUseCase useCase;
 
     public List<UserDTO> getAll(){
 
-        List<UserEntity> userEntityList = repository.findAll();
-        return userEntityList.stream().map(UserConverter::toUserDTO).toList();
+        return repository.findAllUserDTOs();
     }
 
+    @Timed(value = "users.service", histogram = true)
     public UserDTO create(CreateUserDTO createUserDTO){
 
-        UserDomain userDomain = UserConverter.toUserDomain(createUserDTO);
-
         //Invocar o usecase corrwspondente a nossa ação - create
-        useCase.setUserDomain(userDomain);
-        useCase.validate();
+        UserDomain userDomain = useCase.validate(UserConverter.toUserDomain(createUserDTO));
 
         UserEntity entity = repository.save(UserConverter.toUserEntity(userDomain));
 
@@ -45,20 +52,57 @@ public class UserService {
 
     public Optional<UserDTO> getById(UUID id){
 
-        Optional<UserEntity> userEntityOptional = repository.findById(id);
+        return repository.findUserDTOById(id);
+    }
+
+    public List<UserDTO> getByIds(List<UUID> ids){
 
-        if(userEntityOptional.isEmpty()){
+        if(ids.size() > MAX_BATCH_SIZE){
 
-            return Optional.empty();
+            throw new UseCaseException("Batch size exceeds the limit of " + MAX_BATCH_SIZE + " ids.");
         }
-        return Optional.of(UserConverter.toUserDTO(userEntityOptional.get()));
+
+        return repository.findUserDTOsByIds(ids);
     }
 
-    public List<UserDTO> getByName(String name){
+    @Timed(value = "users.service", histogram = true)
+    public List<UserDTO> getByName(String name, Integer limit, Integer offset){
+
+        String term = name == null ? "" : name.strip().toLowerCase(Locale.ROOT);
+
+        if(term.isEmpty()){
+
+            throw new UseCaseException("Search term is empty.");
+        }
+
+        int pageLimit = limit == null ? DEFAULT_SEARCH_LIMIT : limit;
+        int pageOffset = offset == null ? 0 : offset;
+
+        if(pageLimit < 1 || pageLimit > MAX_SEARCH_LIMIT || pageOffset < 0){
+
+            throw new UseCaseException("Limit must be between 1 and " + MAX_SEARCH_LIMIT + " and offset must not be negative.");
+        }
+
+        if(pageOffset + pageLimit > MAX_SEARCH_WINDOW){
+
+            throw new UseCaseException("Offset plus limit must not exceed " + MAX_SEARCH_WINDOW + "; refine the search term.");
+        }
+
+        String prefix = escapeLike(term) + "%";
+
+        //Termos curtos não geram trigramas: a busca fica restrita ao prefixo, atendida pelo índice B-tree
+        List<UserSummaryProjection> users = term.length() < MIN_SUBSTRING_LENGTH
+                ? repository.searchByPrefix(prefix, pageLimit, pageOffset)
+                : repository.searchByName(term, "%" + prefix, prefix, pageOffset + pageLimit, pageLimit, pageOffset);
+
+        return users.stream()
+                .map(user -> new UserDTO(user.getId(), user.getName(), user.getEmail()))
+                .toList();
+    }
 
-        List<UserEntity> userEntityList = repository.findAllByNameContainingIgnoreCase(name);
+    private static String escapeLike(String term){
 
-        return userEntityList.stream().map(UserConverter::toUserDTO).toList();
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
     }
 
     public UserDTO updateUser(UpdateUserDTO updateUserDTO){
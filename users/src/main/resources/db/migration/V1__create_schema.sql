@@ -0,0 +1,31 @@
+-- Esquema do users-service. IF NOT EXISTS: bancos criados pelo antigo ddl-auto=update entram pelo baseline
+-- (versão 0) e passam por esta migração sem alterações
+
+CREATE TABLE IF NOT EXISTS tb_credit_card_network (
+    id      uuid         NOT NULL,
+    name    varchar(100) NOT NULL,
+    comment varchar(255),
+    tax     double precision,
+    CONSTRAINT tb_credit_card_network_pkey PRIMARY KEY (id),
+    CONSTRAINT uk_credit_card_network_name UNIQUE (name)
+);
+
+CREATE TABLE IF NOT EXISTS tb_users (
+    id                     uuid         NOT NULL,
+    name                   varchar(255) NOT NULL,
+    email                  varchar(255) NOT NULL,
+    password               varchar(255) NOT NULL,
+    city                   varchar(255),
+    credit_card_number     varchar(255),
+    credit_card_network_id uuid,
+    type                   smallint,
+    created_at             timestamp(6),
+    updated_at             timestamp(6),
+    active                 boolean      NOT NULL DEFAULT true,
+    CONSTRAINT tb_users_pkey PRIMARY KEY (id),
+    CONSTRAINT tb_users_type_check CHECK (type BETWEEN 0 AND 2),
+    CONSTRAINT fk_users_credit_card_network FOREIGN KEY (credit_card_network_id) REFERENCES tb_credit_card_network (id)
+);
+
+-- Trigramas da busca por nome (GET /users/name/{name}); confiável desde o PostgreSQL 13, o dono do banco pode criá-la
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
@@ -0,0 +1,7 @@
+-- Índices da busca por nome. CONCURRENTLY não bloqueia escritas durante a criação; o Flyway executa
+-- esta migração fora de transação
+
+-- Termos com 3 ou mais caracteres: lower(name) LIKE '%termo%'
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_name_trgm ON tb_users USING gin (lower(name) gin_trgm_ops);
+-- Termos curtos e ordenação dos nomes que começam pelo termo: lower(name) LIKE 'termo%'
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_name_prefix ON tb_users (lower(name) text_pattern_ops);
@@ -0,0 +1,12 @@
+-- Busca por nome com candidatos limitados: cada faixa do ranking é lida de um índice já na ordem de exibição
+-- e a varredura para no LIMIT, sem ordenar todos os nomes que casam com o termo. CONCURRENTLY não bloqueia
+-- escritas; o Flyway executa esta migração fora de transação
+
+-- Nomes que começam pelo termo: intervalo em lower(name) na collation "C", já ordenado por (nome, id)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_name_c_id ON tb_users ((lower(name) COLLATE "C"), id);
+-- Demais nomes que contêm o termo: GiST de trigramas atende o LIKE '%termo%' e devolve por distância (<->)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_name_trgm_gist ON tb_users USING gist (lower(name) gist_trgm_ops);
+
+-- Substituídos pelos dois acima: o GIN não ordena por distância e o text_pattern_ops não ordena por nome
+DROP INDEX CONCURRENTLY IF EXISTS idx_users_name_trgm;
+DROP INDEX CONCURRENTLY IF EXISTS idx_users_name_prefix;
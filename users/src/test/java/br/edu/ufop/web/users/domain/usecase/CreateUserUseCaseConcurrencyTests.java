@@ -0,0 +1,122 @@
+package br.edu.ufop.web.users.domain.usecase;
+
+import br.edu.ufop.web.users.domain.CCNetworkDomain;
+import br.edu.ufop.web.users.domain.UserDomain;
+import br.edu.ufop.web.users.domain.port.CCNRepositoryPort;
+import br.edu.ufop.web.users.enums.EnumUserType;
+import br.edu.ufop.web.users.exception.UseCaseException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CreateUserUseCaseConcurrencyTests {
+
+    private static final int THREADS = 16;
+    private static final int REQUESTS = 20_000;
+
+    private final List<CCNetworkDomain> networks = IntStream.range(0, 8)
+            .mapToObj(i -> CCNetworkDomain.builder().id(UUID.randomUUID()).name("Network " + i).build())
+            .toList();
+
+    private final Map<UUID, CCNetworkDomain> networksById = networks.stream()
+            .collect(Collectors.toMap(CCNetworkDomain::getId, Function.identity()));
+
+    // Thread.yield() na consulta da bandeira alarga a janela em que outra requisição poderia sobrescrever o estado
+    private final CCNRepositoryPort repositoryPort = id -> {
+        Thread.yield();
+        return Optional.ofNullable(networksById.get(id));
+    };
+
+    private final CreateUserUseCase useCase = new CreateUserUseCase(repositoryPort);
+
+    @Test
+    void concurrentValidationsDoNotLeakBetweenRequests() throws Exception {
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            List<Future<Void>> futures = new ArrayList<>(REQUESTS);
+
+            for (int request = 0; request < REQUESTS; request++) {
+
+                int index = request;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    validateAndCheck(index);
+                    return null;
+                }));
+            }
+
+            start.countDown();
+
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void returnsAllViolationsAtOnce() {
+
+        UserDomain userDomain = UserDomain.builder()
+                .ccNetwork(CCNetworkDomain.builder().id(UUID.randomUUID()).build())
+                .build();
+
+        assertThatThrownBy(() -> useCase.validate(userDomain))
+                .isInstanceOf(UseCaseException.class)
+                .extracting(exception -> ((UseCaseException) exception).getViolations())
+                .isEqualTo(List.of("Name is null", "Invalid Credit Card Network ID does not exist",
+                        "Email is null", "Password is null"));
+    }
+
+    private void validateAndCheck(int index) {
+
+        CCNetworkDomain network = networks.get(index % networks.size());
+        boolean invalid = index % 5 == 0;
+
+        UserDomain input = UserDomain.builder()
+                .name("user-" + index)
+                .email("user-" + index + "@ufop.edu.br")
+                .password(invalid ? null : "secret-" + index)
+                .type(index % 2 == 0 ? EnumUserType.ADMIN : null)
+                .ccNetwork(CCNetworkDomain.builder().id(network.getId()).build())
+                .build();
+
+        if (invalid) {
+            assertThatThrownBy(() -> useCase.validate(input))
+                    .isInstanceOf(UseCaseException.class)
+                    .extracting(exception -> ((UseCaseException) exception).getViolations())
+                    .isEqualTo(List.of("Password is null"));
+            return;
+        }
+
+        UserDomain output = useCase.validate(input);
+
+        assertThat(output).isNotSameAs(input);
+        assertThat(output.getName()).isEqualTo("user-" + index);
+        assertThat(output.getEmail()).isEqualTo("user-" + index + "@ufop.edu.br");
+        assertThat(output.getPassword()).isEqualTo("secret-" + index);
+        assertThat(output.getCcNetwork()).isSameAs(network);
+        assertThat(output.getType()).isEqualTo(index % 2 == 0 ? EnumUserType.ADMIN : EnumUserType.CUSTOMER);
+
+        // A entrada não é alterada pela validação
+        assertThat(input.getCcNetwork().getName()).isNull();
+    }
+}